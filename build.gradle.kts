@@ -58,6 +58,9 @@ val embeddium_version: String by project
 val run_embeddium: String by project
 val shouldRunEmbeddium = run_embeddium == "true"
 
+val jmh_version: String by project
+val mockito_version: String by project
+
 base {
     archivesName = archives_base_name
 }
@@ -74,6 +77,16 @@ val datagen by sourceSets.registering {
     runtimeClasspath += sourceSets.main.get().runtimeClasspath
 }
 
+val jmh by sourceSets.registering {
+    compileClasspath += sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().runtimeClasspath
+}
+
+val gametest by sourceSets.registering {
+    compileClasspath += sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().runtimeClasspath
+}
+
 loom {
     runtimeOnlyLog4j.set(true)
 
@@ -111,6 +124,17 @@ loom {
             runDir = "build/datagen"
         }
 
+        register("gametest") {
+            server()
+            name("Game Test")
+            source(gametest.get())
+            vmArg("-Dfabric-api.gametest")
+            vmArg("-Dfabric-api.gametest.report-file=${file("build/gametest/junit.xml")}")
+
+            ideConfigGenerated(true)
+            runDir = "build/gametest"
+        }
+
         named("client") {
             ideConfigGenerated(true)
         }
@@ -221,6 +245,13 @@ dependencies {
     modImplementation("maven.modrinth:worldedit:7.3.4-beta-01")
 
     "datagenImplementation"(sourceSets.main.get().output)
+    "gametestImplementation"(sourceSets.main.get().output)
+
+    // Benchmarks
+    "jmhImplementation"(sourceSets.main.get().output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmh_version")
+    "jmhImplementation"("org.mockito:mockito-core:$mockito_version")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmh_version")
 }
 
 tasks {
@@ -286,6 +317,16 @@ tasks {
     withType(Test::class) {
         maxParallelForks = Runtime.getRuntime().availableProcessors().div(2)
     }
+
+    // Usage: ./gradlew jmh -PjmhArgs="CoffinSpawnerBenchmark -prof gc"
+    register("jmh", JavaExec::class) {
+        group = "verification"
+        description = "Runs the JMH benchmarks in src/jmh."
+        dependsOn(jmh.get().classesTaskName)
+        classpath = jmh.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        findProperty("jmhArgs")?.toString()?.split(' ')?.filter { it.isNotBlank() }?.let { args(it) }
+    }
 }
 
 val applyLicenses: Task by tasks
@@ -0,0 +1,367 @@
+package net.frozenblock.trailiertales.gametest;
+
+import com.mojang.authlib.GameProfile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.frozenblock.trailiertales.TrailierConstants;
+import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
+import net.frozenblock.trailiertales.block.impl.CoffinPart;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.registry.RegisterBlocks;
+import net.frozenblock.trailiertales.registry.RegisterEntities;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsGenerator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.random.SimpleWeightedRandomList;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.SpawnData;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Generates a Catacombs structure, fills the pieces around its center with apparitions, coffins, hostile mobs, dropped items and players,
+ * runs it for a fixed number of ticks, and reports the time spent in each {@link StressTimings.Subsystem}.
+ * <p>
+ * The structure start is registered on the chunks it covers like worldgen would, so Catacombs bounds lookups see it.
+ * The same scene also backs {@link #apparitionEntityData}, which measures the entity data apparitions send.
+ * <p>
+ * Counts are read from {@code trailiertales.stress.*} system properties. Placement uses a fixed seed, but entities still roll their
+ * own AI randomness, so timings vary slightly between runs. Setting {@code trailiertales.stress.max_ms_per_tick} fails the test
+ * once the summed subsystem time goes over that budget.
+ */
+public class ApparitionStressTest implements FabricGameTest {
+	private static final int AREA_RADIUS = 16;
+	private static final int MAX_TICKS = 12000;
+	private static final int PLACEMENT_ATTEMPTS = 64;
+	private static final long SEED = Long.getLong("trailiertales.stress.seed", 0L);
+	private static final int APPARITIONS = Integer.getInteger("trailiertales.stress.apparitions", 16);
+	private static final int COFFINS = Integer.getInteger("trailiertales.stress.coffins", 4);
+	private static final int MOBS = Integer.getInteger("trailiertales.stress.mobs", 16);
+	private static final int ITEMS = Integer.getInteger("trailiertales.stress.items", 200);
+	private static final int PLAYERS = Integer.getInteger("trailiertales.stress.players", 1);
+	private static final int TICKS = Math.min(Integer.getInteger("trailiertales.stress.ticks", 600), MAX_TICKS - 1);
+	private static final double MAX_MS_PER_TICK = Double.parseDouble(System.getProperty("trailiertales.stress.max_ms_per_tick", "0"));
+
+	@GameTest(template = EMPTY_STRUCTURE, timeoutTicks = MAX_TICKS, batch = "apparition_stress")
+	public void apparitionStress(@NotNull GameTestHelper helper) {
+		ServerLevel level = helper.getLevel();
+		Scene scene = populate(helper, "stress_player_");
+		if (scene == null) {
+			return;
+		}
+		List<ServerPlayer> players = scene.players();
+
+		StressTimings.start();
+		helper.runAfterDelay(TICKS, () -> {
+			StressTimings.stop();
+			for (ServerPlayer player : players) {
+				level.removePlayerImmediately(player, Entity.RemovalReason.DISCARDED);
+			}
+
+			String report = String.format(
+				Locale.ROOT,
+				"Apparition stress test: %d apparitions, %d coffins, %d mobs, %d items, %d players, %d ticks, seed %d%n%s",
+				APPARITIONS, COFFINS, MOBS, ITEMS, players.size(), TICKS, SEED,
+				StressTimings.report(TICKS)
+			);
+			TrailierConstants.LOGGER.info(report);
+			try {
+				Files.writeString(Path.of("apparition_stress_report.txt"), report);
+			} catch (IOException e) {
+				TrailierConstants.LOGGER.warn("Failed to write apparition stress report", e);
+			}
+
+			double[] millis = StressTimings.millisPerTick(TICKS);
+			// The brain time already contains the sensor time.
+			double total = millis[StressTimings.Subsystem.BRAIN.ordinal()]
+				+ millis[StressTimings.Subsystem.TRANSPARENCY.ordinal()]
+				+ millis[StressTimings.Subsystem.COFFIN_SPAWNER.ordinal()];
+			if (MAX_MS_PER_TICK > 0D && total > MAX_MS_PER_TICK) {
+				helper.fail(String.format(Locale.ROOT, "Apparition subsystems took %.4f ms/tick, over the %.4f ms/tick budget", total, MAX_MS_PER_TICK));
+			} else {
+				helper.succeed();
+			}
+		});
+	}
+
+	/**
+	 * Packs the dirty entity data of every apparition in the same scene each tick, first with the old every-tick syncing and then with
+	 * change suppression, and reports the packet bytes per apparition per tick of both. Fails if suppression sends more.
+	 */
+	@GameTest(template = EMPTY_STRUCTURE, timeoutTicks = MAX_TICKS, batch = "apparition_entity_data")
+	public void apparitionEntityData(@NotNull GameTestHelper helper) {
+		ServerLevel level = helper.getLevel();
+		Scene scene = populate(helper, "entity_data_player_");
+		if (scene == null) {
+			return;
+		}
+		int phaseTicks = Math.max(TICKS / 2, 1);
+		double[] bytesPerTick = new double[2];
+		String[] reports = new String[2];
+
+		EntityDataBytes.start(true);
+		helper.onEachTick(() -> {
+			for (Apparition apparition : scene.apparitions()) {
+				if (!apparition.isRemoved()) {
+					EntityDataBytes.record(level, apparition);
+				}
+			}
+		});
+		helper.runAfterDelay(phaseTicks, () -> {
+			bytesPerTick[0] = EntityDataBytes.bytesPerEntityTick();
+			reports[0] = EntityDataBytes.report("before");
+			EntityDataBytes.start(false);
+		});
+		helper.runAfterDelay(phaseTicks * 2L, () -> {
+			bytesPerTick[1] = EntityDataBytes.bytesPerEntityTick();
+			reports[1] = EntityDataBytes.report("after");
+			EntityDataBytes.stop();
+			for (ServerPlayer player : scene.players()) {
+				level.removePlayerImmediately(player, Entity.RemovalReason.DISCARDED);
+			}
+
+			String report = String.format(
+				Locale.ROOT,
+				"Apparition entity data: %d apparitions, %d players, %d ticks per phase, seed %d%n%s%s",
+				scene.apparitions().size(), scene.players().size(), phaseTicks, SEED,
+				reports[0], reports[1]
+			);
+			TrailierConstants.LOGGER.info(report);
+			try {
+				Files.writeString(Path.of("apparition_entity_data_report.txt"), report);
+			} catch (IOException e) {
+				TrailierConstants.LOGGER.warn("Failed to write apparition entity data report", e);
+			}
+
+			if (bytesPerTick[1] > bytesPerTick[0]) {
+				helper.fail(String.format(Locale.ROOT, "Apparitions sent %.2f bytes/tick with change suppression, more than %.2f without", bytesPerTick[1], bytesPerTick[0]));
+			} else {
+				helper.succeed();
+			}
+		});
+	}
+
+	/**
+	 * Generates the Catacombs and fills the pieces around its center with the configured load.
+	 *
+	 * @return the spawned apparitions and players, or {@code null} if the test already failed.
+	 */
+	@Nullable
+	private static Scene populate(@NotNull GameTestHelper helper, @NotNull String playerPrefix) {
+		ServerLevel level = helper.getLevel();
+		RandomSource random = RandomSource.create(SEED);
+		StructureStart catacombs = placeCatacombs(level, helper.absolutePos(BlockPos.ZERO));
+		if (catacombs == null) {
+			helper.fail("Could not generate the Catacombs");
+			return null;
+		}
+		List<BoundingBox> bounds = getArea(catacombs);
+		BlockPos probe = findOpenPos(level, bounds, random);
+		if (probe == null || !CatacombsBoundsIndex.get(level).isInCatacombs(level, probe)) {
+			helper.fail("The generated Catacombs are not visible to bounds lookups");
+			return null;
+		}
+
+		for (int i = 0; i < COFFINS; i++) {
+			placeCoffin(level, bounds, random);
+		}
+		List<Apparition> apparitions = new ArrayList<>();
+		for (int i = 0; i < APPARITIONS; i++) {
+			Apparition apparition = spawn(level, RegisterEntities.APPARITION, bounds, random);
+			if (apparition != null) {
+				apparitions.add(apparition);
+			}
+		}
+		for (int i = 0; i < MOBS; i++) {
+			EntityType<?> mobType = i % 2 == 0 ? EntityType.ZOMBIE : EntityType.SKELETON;
+			spawn(level, mobType, bounds, random);
+		}
+		for (int i = 0; i < ITEMS; i++) {
+			BlockPos pos = findOpenPos(level, bounds, random);
+			if (pos != null) {
+				ItemEntity itemEntity = new ItemEntity(level, pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, new ItemStack(i % 2 == 0 ? Items.BONE : Items.ROTTEN_FLESH), 0D, 0D, 0D);
+				itemEntity.setUnlimitedLifetime();
+				level.addFreshEntity(itemEntity);
+			}
+		}
+		List<ServerPlayer> players = new ArrayList<>();
+		for (int i = 0; i < PLAYERS; i++) {
+			BlockPos pos = findOpenPos(level, bounds, random);
+			if (pos != null) {
+				FakePlayer player = FakePlayer.get(level, new GameProfile(new UUID(SEED, i), playerPrefix + i));
+				player.moveTo(pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, 0F, 0F);
+				level.addNewPlayer(player);
+				players.add(player);
+			}
+		}
+		return new Scene(apparitions, players);
+	}
+
+	@Nullable
+	private static <T extends Entity> T spawn(@NotNull ServerLevel level, @NotNull EntityType<T> entityType, @NotNull List<BoundingBox> bounds, @NotNull RandomSource random) {
+		BlockPos pos = findOpenPos(level, bounds, random);
+		return pos != null ? entityType.spawn(level, pos, MobSpawnType.MOB_SUMMONED) : null;
+	}
+
+	private static void placeCoffin(@NotNull ServerLevel level, @NotNull List<BoundingBox> bounds, @NotNull RandomSource random) {
+		Direction direction = Direction.Plane.HORIZONTAL.getRandomDirection(random);
+		for (int i = 0; i < PLACEMENT_ATTEMPTS; i++) {
+			BlockPos footPos = findOpenPos(level, bounds, random);
+			if (footPos == null) {
+				return;
+			}
+			BlockPos headPos = footPos.relative(direction);
+			if (!level.getBlockState(headPos).isAir() || !isInside(bounds, headPos)) {
+				continue;
+			}
+
+			BlockState footState = RegisterBlocks.COFFIN.defaultBlockState().setValue(CoffinBlock.FACING, direction);
+			level.setBlock(footPos, footState, Block.UPDATE_ALL);
+			level.setBlock(headPos, footState.setValue(CoffinBlock.PART, CoffinPart.HEAD), Block.UPDATE_ALL);
+			if (level.getBlockEntity(footPos) instanceof CoffinBlockEntity coffin) {
+				SimpleWeightedRandomList<SpawnData> spawnPotentials = SimpleWeightedRandomList.<SpawnData>builder()
+					.add(createSpawnData(EntityType.ZOMBIE), 2)
+					.add(createSpawnData(EntityType.SKELETON), 1)
+					.build();
+				CompoundTag tag = new CompoundTag();
+				tag.put("spawn_potentials", SpawnData.LIST_CODEC.encodeStart(NbtOps.INSTANCE, spawnPotentials).getOrThrow());
+				coffin.loadWithComponents(tag, level.registryAccess());
+				coffin.setChanged();
+			}
+			return;
+		}
+	}
+
+	@NotNull
+	private static SpawnData createSpawnData(@NotNull EntityType<?> entityType) {
+		CompoundTag entityToSpawn = new CompoundTag();
+		entityToSpawn.putString("id", EntityType.getKey(entityType).toString());
+		return new SpawnData(entityToSpawn, Optional.empty(), Optional.empty());
+	}
+
+	/**
+	 * Generates the Catacombs with the test's seed around {@code origin}, registers its start and references on every chunk it covers,
+	 * and places it.
+	 */
+	@Nullable
+	private static StructureStart placeCatacombs(@NotNull ServerLevel level, @NotNull BlockPos origin) {
+		Structure structure = level.registryAccess().registryOrThrow(Registries.STRUCTURE).get(CatacombsGenerator.CATACOMBS_KEY);
+		if (structure == null) {
+			return null;
+		}
+
+		ChunkGenerator chunkGenerator = level.getChunkSource().getGenerator();
+		StructureStart structureStart = structure.generate(
+			level.registryAccess(),
+			chunkGenerator,
+			chunkGenerator.getBiomeSource(),
+			level.getChunkSource().randomState(),
+			level.getStructureManager(),
+			SEED,
+			new ChunkPos(origin),
+			0,
+			level,
+			biome -> true
+		);
+		if (!structureStart.isValid()) {
+			return null;
+		}
+
+		BoundingBox box = structureStart.getBoundingBox();
+		ChunkPos minChunk = new ChunkPos(SectionPos.blockToSectionCoord(box.minX()), SectionPos.blockToSectionCoord(box.minZ()));
+		ChunkPos maxChunk = new ChunkPos(SectionPos.blockToSectionCoord(box.maxX()), SectionPos.blockToSectionCoord(box.maxZ()));
+		ChunkPos startChunk = structureStart.getChunkPos();
+		level.getChunk(startChunk.x, startChunk.z).setStartForStructure(structure, structureStart);
+		ChunkPos.rangeClosed(minChunk, maxChunk).forEach(chunkPos -> level.getChunk(chunkPos.x, chunkPos.z).addReferenceForStructure(structure, startChunk.toLong()));
+		ChunkPos.rangeClosed(minChunk, maxChunk).forEach(
+			chunkPos -> structureStart.placeInChunk(
+				level,
+				level.structureManager(),
+				chunkGenerator,
+				level.getRandom(),
+				new BoundingBox(chunkPos.getMinBlockX(), level.getMinBuildHeight(), chunkPos.getMinBlockZ(), chunkPos.getMaxBlockX(), level.getMaxBuildHeight(), chunkPos.getMaxBlockZ()),
+				chunkPos
+			)
+		);
+		return structureStart;
+	}
+
+	/**
+	 * @return the boxes of the pieces within {@link #AREA_RADIUS} of the start piece, so the load stays close enough together to interact.
+	 */
+	@NotNull
+	private static List<BoundingBox> getArea(@NotNull StructureStart structureStart) {
+		List<StructurePiece> pieces = structureStart.getPieces();
+		BoundingBox center = pieces.getFirst().getBoundingBox().inflatedBy(AREA_RADIUS);
+		List<BoundingBox> area = new ArrayList<>();
+		for (StructurePiece piece : pieces) {
+			if (piece.getBoundingBox().intersects(center)) {
+				area.add(piece.getBoundingBox());
+			}
+		}
+		return area;
+	}
+
+	private static boolean isInside(@NotNull List<BoundingBox> bounds, @NotNull BlockPos pos) {
+		for (BoundingBox box : bounds) {
+			if (box.isInside(pos)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return a random air block with a solid floor inside one of the {@code bounds}, or {@code null} if none was found.
+	 */
+	@Nullable
+	private static BlockPos findOpenPos(@NotNull ServerLevel level, @NotNull List<BoundingBox> bounds, @NotNull RandomSource random) {
+		for (int i = 0; i < PLACEMENT_ATTEMPTS; i++) {
+			BoundingBox box = bounds.get(random.nextInt(bounds.size()));
+			BlockPos pos = new BlockPos(
+				box.minX() + random.nextInt(box.getXSpan()),
+				box.minY() + 1 + random.nextInt(Math.max(box.getYSpan() - 1, 1)),
+				box.minZ() + random.nextInt(box.getZSpan())
+			);
+			if (level.getBlockState(pos).isAir() && level.getBlockState(pos.below()).isSolid()) {
+				return pos;
+			}
+		}
+		return null;
+	}
+
+	private record Scene(List<Apparition> apparitions, List<ServerPlayer> players) {
+	}
+}
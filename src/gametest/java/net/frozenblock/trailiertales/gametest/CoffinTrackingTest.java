@@ -0,0 +1,79 @@
+package net.frozenblock.trailiertales.gametest;
+
+import java.util.Set;
+import java.util.UUID;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinData;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinInterface;
+import net.frozenblock.trailiertales.block.impl.CoffinPart;
+import net.frozenblock.trailiertales.gametest.mixin.CoffinSpawnerDataAccessor;
+import net.frozenblock.trailiertales.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.ai.attributes.AttributeInstance;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.monster.Zombie;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks that a coffin drops tracked mobs that are still loaded but too far away when it validates its tracked entities.
+ * <p>
+ * Untracking such a mob calls back into the spawner while it validates, which used to throw a
+ * {@link java.util.ConcurrentModificationException} and fail the test.
+ */
+public class CoffinTrackingTest implements FabricGameTest {
+	private static final int FAR_AWAY_DISTANCE = 80;
+
+	@GameTest(template = EMPTY_STRUCTURE, batch = "coffin_tracking")
+	public void coffinUntracksFarAwayMob(@NotNull GameTestHelper helper) {
+		ServerLevel level = helper.getLevel();
+		BlockPos footPos = helper.absolutePos(new BlockPos(0, 1, 0));
+		BlockState footState = RegisterBlocks.COFFIN.defaultBlockState().setValue(CoffinBlock.FACING, Direction.EAST);
+		level.setBlock(footPos, footState, Block.UPDATE_ALL);
+		level.setBlock(footPos.east(), footState.setValue(CoffinBlock.PART, CoffinPart.HEAD), Block.UPDATE_ALL);
+		if (!(level.getBlockEntity(footPos) instanceof CoffinBlockEntity coffin)) {
+			helper.fail("Could not place the coffin");
+			return;
+		}
+		CoffinSpawner coffinSpawner = coffin.getCoffinSpawner();
+
+		BlockPos mobPos = footPos.east(FAR_AWAY_DISTANCE);
+		level.getChunkAt(mobPos);
+		Zombie zombie = EntityType.ZOMBIE.spawn(level, mobPos, MobSpawnType.MOB_SUMMONED);
+		if (zombie == null) {
+			helper.fail("Could not spawn the far away zombie");
+			return;
+		}
+		AttributeInstance followRange = zombie.getAttribute(Attributes.FOLLOW_RANGE);
+		if (followRange != null) {
+			followRange.addPermanentModifier(new AttributeModifier(CoffinBlock.ATTRIBUTE_COFFIN_FOLLOW_RANGE, 24D, AttributeModifier.Operation.ADD_VALUE));
+		}
+		((EntityCoffinInterface) zombie).trailierTales$setCoffinData(new EntityCoffinData(footPos, coffinSpawner.getUUID()));
+		Set<UUID> currentMobs = ((CoffinSpawnerDataAccessor) coffinSpawner.getData()).trailierTales$getCurrentMobs();
+		currentMobs.add(zombie.getUUID());
+
+		coffinSpawner.untrackInvalidEntities(level, footPos);
+		zombie.discard();
+
+		if (currentMobs.contains(zombie.getUUID())) {
+			helper.fail("The coffin still tracks the far away zombie");
+		} else if (((EntityCoffinInterface) zombie).trailierTales$getCoffinData() != null) {
+			helper.fail("The far away zombie still holds the coffin's data");
+		} else if (followRange != null && followRange.hasModifier(CoffinBlock.ATTRIBUTE_COFFIN_FOLLOW_RANGE)) {
+			helper.fail("The far away zombie still has the coffin's follow range");
+		} else {
+			helper.succeed();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package net.frozenblock.trailiertales.gametest;
+
+import io.netty.buffer.Unpooled;
+import java.util.List;
+import java.util.Locale;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.protocol.game.ClientboundSetEntityDataPacket;
+import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the bytes of entity data packets entities would send, by packing their dirty entity data every tick.
+ * <p>
+ * While {@link #isLegacySync()} is set, apparitions go back to copying their visible item and setting their synced floats every tick,
+ * so the same scene can be measured before and after change suppression.
+ */
+public final class EntityDataBytes {
+	private static boolean legacySync;
+	private static long bytes;
+	private static long packets;
+	private static long entityTicks;
+
+	private EntityDataBytes() {
+		throw new UnsupportedOperationException("EntityDataBytes contains only static declarations.");
+	}
+
+	public static void start(boolean legacy) {
+		legacySync = legacy;
+		bytes = 0L;
+		packets = 0L;
+		entityTicks = 0L;
+	}
+
+	public static void stop() {
+		legacySync = false;
+	}
+
+	public static boolean isLegacySync() {
+		return legacySync;
+	}
+
+	public static void record(@NotNull ServerLevel level, @NotNull Entity entity) {
+		entityTicks++;
+		List<SynchedEntityData.DataValue<?>> dirty = entity.getEntityData().packDirty();
+		if (dirty == null) {
+			return;
+		}
+
+		RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), level.registryAccess());
+		try {
+			ClientboundSetEntityDataPacket.STREAM_CODEC.encode(buf, new ClientboundSetEntityDataPacket(entity.getId(), dirty));
+			bytes += buf.writerIndex();
+			packets++;
+		} finally {
+			buf.release();
+		}
+	}
+
+	public static double bytesPerEntityTick() {
+		return entityTicks == 0L ? 0D : (double) bytes / entityTicks;
+	}
+
+	@NotNull
+	public static String report(@NotNull String name) {
+		return String.format(
+			Locale.ROOT,
+			"%-8s %10.2f bytes/apparition/tick %10d packets %12d bytes over %d apparition ticks%n",
+			name,
+			bytesPerEntityTick(),
+			packets,
+			bytes,
+			entityTicks
+		);
+	}
+}
@@ -0,0 +1,99 @@
+package net.frozenblock.trailiertales.gametest;
+
+import java.util.Locale;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Accumulates the server-thread time spent in each instrumented subsystem while a stress test is recording.
+ */
+public final class StressTimings {
+	private static final double NANOS_PER_MILLI = 1_000_000D;
+	private static final Subsystem[] SUBSYSTEMS = Subsystem.values();
+	private static final long[] NANOS = new long[SUBSYSTEMS.length];
+	private static final long[] CALLS = new long[SUBSYSTEMS.length];
+	private static final long[] STARTED = new long[SUBSYSTEMS.length];
+	private static boolean recording;
+
+	private StressTimings() {
+		throw new UnsupportedOperationException("StressTimings contains only static declarations.");
+	}
+
+	public static void start() {
+		for (int i = 0; i < SUBSYSTEMS.length; i++) {
+			NANOS[i] = 0L;
+			CALLS[i] = 0L;
+			STARTED[i] = 0L;
+		}
+		recording = true;
+	}
+
+	public static void stop() {
+		recording = false;
+	}
+
+	public static void begin(@NotNull Subsystem subsystem) {
+		if (recording) {
+			STARTED[subsystem.ordinal()] = System.nanoTime();
+		}
+	}
+
+	public static void end(@NotNull Subsystem subsystem) {
+		int index = subsystem.ordinal();
+		if (recording && STARTED[index] != 0L) {
+			NANOS[index] += System.nanoTime() - STARTED[index];
+			CALLS[index]++;
+			STARTED[index] = 0L;
+		}
+	}
+
+	/**
+	 * @return the recorded time of every subsystem, in milliseconds per tick.
+	 */
+	public static double @NotNull [] millisPerTick(int ticks) {
+		double[] millis = new double[SUBSYSTEMS.length];
+		for (int i = 0; i < SUBSYSTEMS.length; i++) {
+			millis[i] = NANOS[i] / NANOS_PER_MILLI / ticks;
+		}
+		return millis;
+	}
+
+	@NotNull
+	public static String report(int ticks) {
+		StringBuilder builder = new StringBuilder();
+		double[] millis = millisPerTick(ticks);
+		for (Subsystem subsystem : SUBSYSTEMS) {
+			builder.append(
+				String.format(
+					Locale.ROOT,
+					"%-16s %10.4f ms/tick %12d calls %10.2f us/call%n",
+					subsystem.getName(),
+					millis[subsystem.ordinal()],
+					CALLS[subsystem.ordinal()],
+					CALLS[subsystem.ordinal()] == 0L ? 0D : NANOS[subsystem.ordinal()] / 1000D / CALLS[subsystem.ordinal()]
+				)
+			);
+		}
+		return builder.toString();
+	}
+
+	public enum Subsystem {
+		/**
+		 * Apparition brain ticks, including their sensors.
+		 */
+		BRAIN("brain"),
+		SENSORS("sensors"),
+		TRANSPARENCY("transparency"),
+		COFFIN_SPAWNER("coffin_spawner");
+
+		private final String name;
+
+		Subsystem(String name) {
+			this.name = name;
+		}
+
+		@NotNull
+		public String getName() {
+			return this.name;
+		}
+	}
+}
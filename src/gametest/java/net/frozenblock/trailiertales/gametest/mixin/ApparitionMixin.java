@@ -0,0 +1,45 @@
+package net.frozenblock.trailiertales.gametest.mixin;
+
+import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.gametest.EntityDataBytes;
+import net.frozenblock.trailiertales.gametest.StressTimings;
+import net.minecraft.network.syncher.EntityDataAccessor;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(Apparition.class)
+public class ApparitionMixin {
+
+	@Inject(method = "tickTransparency", at = @At("HEAD"))
+	public void trailierTales$beginTransparency(CallbackInfo info) {
+		StressTimings.begin(StressTimings.Subsystem.TRANSPARENCY);
+	}
+
+	@Inject(method = "tickTransparency", at = @At("RETURN"))
+	public void trailierTales$endTransparency(CallbackInfo info) {
+		StressTimings.end(StressTimings.Subsystem.TRANSPARENCY);
+	}
+
+	@ModifyExpressionValue(
+		method = "tick",
+		at = @At(
+			value = "INVOKE",
+			target = "Lnet/minecraft/world/item/ItemStack;matches(Lnet/minecraft/world/item/ItemStack;Lnet/minecraft/world/item/ItemStack;)Z"
+		)
+	)
+	public boolean trailierTales$legacyCopyVisibleItem(boolean original) {
+		return original && !EntityDataBytes.isLegacySync();
+	}
+
+	@Inject(method = "setSyncedFloat", at = @At("HEAD"), cancellable = true)
+	public void trailierTales$legacySetSyncedFloat(EntityDataAccessor<Float> accessor, float value, CallbackInfo info) {
+		if (EntityDataBytes.isLegacySync()) {
+			((Apparition) (Object) this).getEntityData().set(accessor, value);
+			info.cancel();
+		}
+	}
+
+}
@@ -0,0 +1,44 @@
+package net.frozenblock.trailiertales.gametest.mixin;
+
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.gametest.StressTimings;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(Brain.class)
+public class BrainMixin {
+
+	@Inject(method = "tick", at = @At("HEAD"))
+	public void trailierTales$beginBrain(ServerLevel level, LivingEntity entity, CallbackInfo info) {
+		if (entity instanceof Apparition) {
+			StressTimings.begin(StressTimings.Subsystem.BRAIN);
+		}
+	}
+
+	@Inject(method = "tick", at = @At("RETURN"))
+	public void trailierTales$endBrain(ServerLevel level, LivingEntity entity, CallbackInfo info) {
+		if (entity instanceof Apparition) {
+			StressTimings.end(StressTimings.Subsystem.BRAIN);
+		}
+	}
+
+	@Inject(method = "tickSensors", at = @At("HEAD"))
+	public void trailierTales$beginSensors(ServerLevel level, LivingEntity entity, CallbackInfo info) {
+		if (entity instanceof Apparition) {
+			StressTimings.begin(StressTimings.Subsystem.SENSORS);
+		}
+	}
+
+	@Inject(method = "tickSensors", at = @At("RETURN"))
+	public void trailierTales$endSensors(ServerLevel level, LivingEntity entity, CallbackInfo info) {
+		if (entity instanceof Apparition) {
+			StressTimings.end(StressTimings.Subsystem.SENSORS);
+		}
+	}
+
+}
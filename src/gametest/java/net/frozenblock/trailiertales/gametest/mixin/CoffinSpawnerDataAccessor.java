@@ -0,0 +1,15 @@
+package net.frozenblock.trailiertales.gametest.mixin;
+
+import java.util.Set;
+import java.util.UUID;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawnerData;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(CoffinSpawnerData.class)
+public interface CoffinSpawnerDataAccessor {
+
+	@Accessor("currentMobs")
+	Set<UUID> trailierTales$getCurrentMobs();
+
+}
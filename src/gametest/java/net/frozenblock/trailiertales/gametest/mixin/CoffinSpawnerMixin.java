@@ -0,0 +1,26 @@
+package net.frozenblock.trailiertales.gametest.mixin;
+
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.frozenblock.trailiertales.block.impl.CoffinPart;
+import net.frozenblock.trailiertales.gametest.StressTimings;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(CoffinSpawner.class)
+public class CoffinSpawnerMixin {
+
+	@Inject(method = "tickServer", at = @At("HEAD"))
+	public void trailierTales$beginCoffinSpawner(ServerLevel world, BlockPos pos, CoffinPart part, boolean ominous, CallbackInfo info) {
+		StressTimings.begin(StressTimings.Subsystem.COFFIN_SPAWNER);
+	}
+
+	@Inject(method = "tickServer", at = @At("RETURN"))
+	public void trailierTales$endCoffinSpawner(ServerLevel world, BlockPos pos, CoffinPart part, boolean ominous, CallbackInfo info) {
+		StressTimings.end(StressTimings.Subsystem.COFFIN_SPAWNER);
+	}
+
+}
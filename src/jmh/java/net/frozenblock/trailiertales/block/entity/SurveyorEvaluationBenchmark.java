@@ -0,0 +1,115 @@
+package net.frozenblock.trailiertales.block.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorCandidates;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorOcclusionProfile;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares {@link SurveyorBlockEntity#detect} against the previous loop, which raycast every player closer than the best
+ * detection so far in the order the entity query returned them.
+ * <p>
+ * Players stand at seeded random spots along an open view column, or one walled off six blocks out.
+ * Block states are answered by a mocked level, and stone stands in for the surveyor's own full block.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Thread)
+public class SurveyorEvaluationBenchmark {
+	private static final BlockPos POS = new BlockPos(0, 64, 0);
+	private static final Direction FACING = Direction.SOUTH;
+	private static final AABB DETECTION_BOX = AABB.encapsulatingFullBlocks(POS.relative(FACING), POS.relative(FACING, SurveyorOcclusionProfile.LENGTH));
+
+	@Param({"1", "10", "50"})
+	int players;
+
+	@Param({"open", "wall"})
+	String column;
+
+	private Level level;
+	private final List<Player> playerList = new ArrayList<>();
+	private final SurveyorCandidates candidates = new SurveyorCandidates();
+	private final SurveyorOcclusionProfile profile = new SurveyorOcclusionProfile();
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		BlockPos wallPos = "wall".equals(this.column) ? POS.relative(FACING, 6) : null;
+		this.level = mock(Level.class);
+		when(this.level.getBlockState(any(BlockPos.class))).thenAnswer(invocation -> {
+			BlockPos pos = invocation.getArgument(0);
+			return pos.equals(POS) || pos.equals(wallPos) ? Blocks.STONE.defaultBlockState() : Blocks.AIR.defaultBlockState();
+		});
+		when(this.level.clip(any(ClipContext.class))).thenCallRealMethod();
+		when(this.level.clipWithInteractionOverride(any(), any(), any(), any(), any())).thenCallRealMethod();
+
+		RandomSource random = RandomSource.create(0L);
+		for (int i = 0; i < this.players; i++) {
+			double x = POS.getX() + Mth.nextDouble(random, 0.3D, 0.7D);
+			double y = POS.getY();
+			double z = POS.getZ() + Mth.nextDouble(random, 1D, SurveyorOcclusionProfile.LENGTH - 0.6D);
+			Player player = mock(Player.class);
+			when(player.getBoundingBox()).thenReturn(new AABB(x - 0.3D, y, z, x + 0.3D, y + 1.8D, z + 0.6D));
+			when(player.getMainHandItem()).thenReturn(ItemStack.EMPTY);
+			when(player.getY()).thenReturn(y);
+			this.playerList.add(player);
+		}
+		this.profile.update(this.level, POS, FACING);
+	}
+
+	@Benchmark
+	public int detect() {
+		this.candidates.clear();
+		this.candidates.getPlayers().addAll(this.playerList);
+		return SurveyorBlockEntity.detect(this.level, POS, FACING, DETECTION_BOX, this.profile, this.candidates);
+	}
+
+	@Benchmark
+	public int legacy() {
+		Vec3 eye = Vec3.atCenterOf(POS).add(0D, 0D, 0.55D);
+		int closestDetection = SurveyorBlockEntity.MAX_DETECTION_DISTANCE;
+		for (Player player : this.playerList) {
+			AABB box = player.getBoundingBox();
+			Vec3[] closestPoint = new Vec3[1];
+			closestPoint[0] = new Vec3(Mth.clamp(eye.x, box.minX, box.maxX), Mth.clamp(eye.y, box.minY, box.maxY), Mth.clamp(eye.z, box.minZ, box.maxZ));
+			int distance = (int) closestPoint[0].distanceTo(eye);
+			if (distance < closestDetection && SurveyorOcclusionProfile.raycast(this.level, POS, closestPoint[0], player)) {
+				closestDetection = distance;
+			}
+		}
+		return closestDetection;
+	}
+}
@@ -0,0 +1,110 @@
+package net.frozenblock.trailiertales.block.entity.coffin;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.SpawnData;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.trialspawner.PlayerDetector;
+import org.jetbrains.annotations.NotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A stubbed {@link ServerLevel} and coffin for driving {@link CoffinSpawner} outside a running server.
+ * <p>
+ * The level only answers what the spawner asks for: game time, randomness, and an empty block state at the coffin.
+ */
+final class CoffinBenchmarkLevel implements CoffinSpawner.StateAccessor {
+	static final BlockPos POS = new BlockPos(0, 64, 0);
+	private static boolean bootstrapped;
+
+	final ServerLevel level;
+	long gameTime;
+	CoffinSpawnerState state = CoffinSpawnerState.INACTIVE;
+
+	CoffinBenchmarkLevel() {
+		bootstrap();
+		this.level = mock(ServerLevel.class);
+		RandomSource random = RandomSource.create(0L);
+		when(this.level.getGameTime()).thenAnswer(invocation -> this.gameTime);
+		when(this.level.getRandom()).thenReturn(random);
+		when(this.level.getBlockState(any(BlockPos.class))).thenReturn(Blocks.AIR.defaultBlockState());
+	}
+
+	static synchronized void bootstrap() {
+		if (!bootstrapped) {
+			SharedConstants.tryDetectVersion();
+			Bootstrap.bootStrap();
+			bootstrapped = true;
+		}
+	}
+
+	/**
+	 * Creates a spawner that never changes state on its own, never spawns apparitions, and keeps up to
+	 * {@code simultaneousMobs} mobs alive.
+	 */
+	@NotNull
+	CoffinSpawner createSpawner(@NotNull CoffinSpawnerData data, int simultaneousMobs) {
+		return this.createSpawner(data, simultaneousMobs, PlayerDetector.EntitySelector.onlySelectPlayers(List.of()));
+	}
+
+	/**
+	 * Creates a spawner like {@link #createSpawner(CoffinSpawnerData, int)} that detects players through {@code entitySelector}.
+	 */
+	@NotNull
+	CoffinSpawner createSpawner(@NotNull CoffinSpawnerData data, int simultaneousMobs, @NotNull PlayerDetector.EntitySelector entitySelector) {
+		CoffinSpawnerConfig config = new CoffinSpawnerConfig(4, 1000F, simultaneousMobs, 0F, 0F, 400, Integer.MAX_VALUE, false);
+		CoffinSpawner coffinSpawner = new CoffinSpawner(
+			config,
+			config,
+			config,
+			data,
+			12000,
+			48,
+			UUID.randomUUID(),
+			false,
+			this,
+			entitySelector
+		);
+		coffinSpawner.overridePeacefulAndMobSpawnRule();
+		return coffinSpawner;
+	}
+
+	@NotNull
+	static CoffinSpawnerData createActiveData(int trackedMobs, int detectedPlayers) {
+		CoffinSpawnerData data = new CoffinSpawnerData();
+		CompoundTag entityToSpawn = new CompoundTag();
+		entityToSpawn.putString("id", "minecraft:zombie");
+		data.nextSpawnData = Optional.of(new SpawnData(entityToSpawn, Optional.empty(), Optional.empty()));
+		for (int i = 0; i < trackedMobs; i++) {
+			data.currentMobs.add(UUID.randomUUID());
+		}
+		for (int i = 0; i < detectedPlayers; i++) {
+			data.detectedPlayers.add(UUID.randomUUID());
+		}
+		return data;
+	}
+
+	@Override
+	public void setState(Level level, CoffinSpawnerState state) {
+		this.state = state;
+	}
+
+	@Override
+	public CoffinSpawnerState getState() {
+		return this.state;
+	}
+
+	@Override
+	public void markUpdated() {
+	}
+}
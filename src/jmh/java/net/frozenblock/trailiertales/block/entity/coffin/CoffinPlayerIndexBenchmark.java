@@ -0,0 +1,115 @@
+package net.frozenblock.trailiertales.block.entity.coffin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinPlayerIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.block.entity.trialspawner.PlayerDetector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs one tick of player detection for every loaded coffin, either through {@link CoffinPlayerIndex} or the way coffins did before it,
+ * scanning for players once a second whether or not anyone moved.
+ * <p>
+ * Coffins sit on a 16 block grid and players are scattered over it; {@code movingPlayers} of them step back and forth one block every tick.
+ * Player positions are answered by mocks, so absolute times include Mockito overhead; the number of detector scans is what differs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Thread)
+public class CoffinPlayerIndexBenchmark {
+	private static final int GRID_WIDTH = 25;
+	private static final int SPACING = 16;
+
+	@Param({"500"})
+	int coffins;
+
+	@Param({"50"})
+	int players;
+
+	@Param({"0", "5", "50"})
+	int movingPlayers;
+
+	private CoffinBenchmarkLevel level;
+	private CoffinPlayerIndex playerIndex;
+	private CoffinSpawner[] coffinSpawners;
+	private BlockPos[] coffinPositions;
+	private BlockPos[][] playerPositions;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.level = new CoffinBenchmarkLevel();
+		RandomSource random = RandomSource.create(0L);
+		int gridDepth = Math.ceilDiv(this.coffins, GRID_WIDTH);
+
+		List<ServerPlayer> serverPlayers = new ArrayList<>();
+		this.playerPositions = new BlockPos[this.players][2];
+		for (int i = 0; i < this.players; i++) {
+			BlockPos pos = new BlockPos(random.nextInt(GRID_WIDTH * SPACING), 64, random.nextInt(gridDepth * SPACING));
+			this.playerPositions[i][0] = pos;
+			this.playerPositions[i][1] = pos.east();
+			int player = i;
+			ServerPlayer serverPlayer = mock(ServerPlayer.class);
+			UUID uuid = new UUID(0L, i);
+			when(serverPlayer.getUUID()).thenReturn(uuid);
+			when(serverPlayer.blockPosition()).thenAnswer(
+				invocation -> this.playerPositions[player][player < this.movingPlayers ? (int) (this.level.gameTime & 1L) : 0]
+			);
+			serverPlayers.add(serverPlayer);
+		}
+		when(this.level.level.players()).thenReturn(serverPlayers);
+		PlayerDetector.EntitySelector entitySelector = PlayerDetector.EntitySelector.onlySelectPlayers(new ArrayList<Player>(serverPlayers));
+
+		this.playerIndex = new CoffinPlayerIndex();
+		this.coffinSpawners = new CoffinSpawner[this.coffins];
+		this.coffinPositions = new BlockPos[this.coffins];
+		for (int i = 0; i < this.coffins; i++) {
+			BlockPos pos = new BlockPos((i % GRID_WIDTH) * SPACING, 64, (i / GRID_WIDTH) * SPACING);
+			CoffinSpawner coffinSpawner = this.level.createSpawner(new CoffinSpawnerData(), 1, entitySelector);
+			this.playerIndex.subscribe(coffinSpawner, pos);
+			this.coffinSpawners[i] = coffinSpawner;
+			this.coffinPositions[i] = pos;
+		}
+	}
+
+	@Benchmark
+	public void indexed() {
+		this.level.gameTime++;
+		this.playerIndex.tick(this.level.level);
+		for (int i = 0; i < this.coffins; i++) {
+			CoffinSpawner coffinSpawner = this.coffinSpawners[i];
+			coffinSpawner.getData().tryDetectPlayers(this.level.level, this.coffinPositions[i], coffinSpawner);
+		}
+	}
+
+	@Benchmark
+	public void scanEverySecond() {
+		this.level.gameTime++;
+		for (int i = 0; i < this.coffins; i++) {
+			CoffinSpawner coffinSpawner = this.coffinSpawners[i];
+			coffinSpawner.markPlayersChanged();
+			coffinSpawner.getData().tryDetectPlayers(this.level.level, this.coffinPositions[i], coffinSpawner);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package net.frozenblock.trailiertales.block.entity.coffin;
+
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.trailiertales.block.impl.CoffinPart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+public class CoffinSpawnerBenchmark {
+
+	@State(Scope.Thread)
+	public static class IdleCoffin {
+		CoffinBenchmarkLevel level;
+		CoffinSpawner coffinSpawner;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.level = new CoffinBenchmarkLevel();
+			this.coffinSpawner = this.level.createSpawner(new CoffinSpawnerData(), 1);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ActiveCoffin {
+		@Param({"0", "4", "16", "64"})
+		int trackedMobs;
+
+		CoffinBenchmarkLevel level;
+		CoffinSpawner coffinSpawner;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.level = new CoffinBenchmarkLevel();
+			this.level.state = CoffinSpawnerState.ACTIVE;
+			this.coffinSpawner = this.level.createSpawner(CoffinBenchmarkLevel.createActiveData(this.trackedMobs, 1), Math.max(1, this.trackedMobs));
+		}
+	}
+
+	/**
+	 * An inactive coffin with nothing to spawn, after it has gone dormant.
+	 */
+	@Benchmark
+	public void idleDormantTick(IdleCoffin idle) {
+		idle.level.gameTime++;
+		idle.coffinSpawner.tickServer(idle.level.level, CoffinBenchmarkLevel.POS, CoffinPart.FOOT, false);
+	}
+
+	/**
+	 * An inactive coffin with nothing to spawn, woken before every tick so the full tick runs.
+	 */
+	@Benchmark
+	public void idleAwakeTick(IdleCoffin idle) {
+		idle.level.gameTime++;
+		idle.coffinSpawner.wake();
+		idle.coffinSpawner.tickServer(idle.level.level, CoffinBenchmarkLevel.POS, CoffinPart.FOOT, false);
+	}
+
+	/**
+	 * An active coffin already at its simultaneous mob limit.
+	 */
+	@Benchmark
+	public CoffinSpawnerState activeTickAndGetNext(ActiveCoffin active) {
+		active.level.gameTime++;
+		return CoffinSpawnerState.ACTIVE.tickAndGetNext(CoffinBenchmarkLevel.POS, active.coffinSpawner, active.level.level);
+	}
+}
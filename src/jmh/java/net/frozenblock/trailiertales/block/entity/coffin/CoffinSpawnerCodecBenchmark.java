@@ -0,0 +1,51 @@
+package net.frozenblock.trailiertales.block.entity.coffin;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+public class CoffinSpawnerCodecBenchmark {
+
+	@State(Scope.Thread)
+	public static class EncodedCoffin {
+		@Param({"0", "16"})
+		int trackedMobs;
+
+		CoffinSpawner coffinSpawner;
+		Tag encoded;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			CoffinBenchmarkLevel level = new CoffinBenchmarkLevel();
+			this.coffinSpawner = level.createSpawner(CoffinBenchmarkLevel.createActiveData(this.trackedMobs, 2), Math.max(1, this.trackedMobs));
+			this.encoded = this.coffinSpawner.codec().encodeStart(NbtOps.INSTANCE, this.coffinSpawner).getOrThrow();
+		}
+	}
+
+	@Benchmark
+	public Tag save(EncodedCoffin coffin) {
+		return coffin.coffinSpawner.codec().encodeStart(NbtOps.INSTANCE, coffin.coffinSpawner).getOrThrow();
+	}
+
+	@Benchmark
+	public CoffinSpawner load(EncodedCoffin coffin) {
+		return coffin.coffinSpawner.codec().parse(NbtOps.INSTANCE, coffin.encoded).getOrThrow();
+	}
+}
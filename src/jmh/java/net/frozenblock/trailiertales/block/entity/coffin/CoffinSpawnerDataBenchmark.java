@@ -0,0 +1,86 @@
+package net.frozenblock.trailiertales.block.entity.coffin;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+public class CoffinSpawnerDataBenchmark {
+
+	@State(Scope.Thread)
+	public static class QueuedSouls {
+		@Param({"1", "16", "256"})
+		int souls;
+
+		CoffinSpawnerData data;
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			this.data = new CoffinSpawnerData();
+			for (int i = 0; i < this.souls; i++) {
+				this.data.queueSoul(40L + (i * 7L) % 100L);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class DetectedPlayers {
+		@Param({"1", "4", "16"})
+		int players;
+
+		CoffinBenchmarkLevel level;
+		CoffinSpawnerData data;
+		final Vec3 origin = new Vec3(0.5D, 64D, 0.5D);
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.level = new CoffinBenchmarkLevel();
+			this.data = CoffinBenchmarkLevel.createActiveData(0, 0);
+			for (int i = 0; i < this.players; i++) {
+				UUID uuid = UUID.randomUUID();
+				Player player = mock(Player.class);
+				when(player.distanceToSqr(any(Vec3.class))).thenReturn(16D + i);
+				when(this.level.level.getPlayerByUUID(uuid)).thenReturn(player);
+				this.data.detectedPlayers.add(uuid);
+			}
+		}
+	}
+
+	/**
+	 * Drains every queued soul once they have all arrived.
+	 */
+	@Benchmark
+	public int soulDrain(QueuedSouls queuedSouls) {
+		int drained = 0;
+		while (queuedSouls.data.pollSoul(200L)) {
+			drained++;
+		}
+		return drained;
+	}
+
+	@Benchmark
+	public Optional<Player> closestDetectedPlayer(DetectedPlayers detectedPlayers) {
+		return detectedPlayers.data.getClosestDetectedPlayer(detectedPlayers.level.level, detectedPlayers.origin);
+	}
+}
@@ -0,0 +1,109 @@
+package net.frozenblock.trailiertales.block.entity.impl;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares {@link SurveyorOcclusionProfile#isVisible} against a full {@link SurveyorOcclusionProfile#raycast} for a player
+ * standing ten blocks in front of a surveyor.
+ * <p>
+ * The view column is either open, has a slab four blocks out, or is walled off six blocks out.
+ * Block states are answered by a mocked level, and stone stands in for the surveyor's own full block.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Thread)
+public class SurveyorOcclusionProfileBenchmark {
+	private static final BlockPos POS = new BlockPos(0, 64, 0);
+	private static final Direction FACING = Direction.SOUTH;
+	private static final int PLAYER_DISTANCE = 10;
+
+	@Param({"open", "slab", "wall"})
+	String column;
+
+	private Level level;
+	private Player player;
+	private Vec3 point;
+	private SurveyorOcclusionProfile profile;
+
+	@Setup(org.openjdk.jmh.annotations.Level.Trial)
+	public void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		BlockPos occluderPos = switch (this.column) {
+			case "slab" -> POS.relative(FACING, 4);
+			case "wall" -> POS.relative(FACING, 6);
+			default -> null;
+		};
+		BlockState occluder = "slab".equals(this.column) ? Blocks.STONE_SLAB.defaultBlockState() : Blocks.STONE.defaultBlockState();
+
+		this.level = mock(Level.class);
+		when(this.level.getBlockState(any(BlockPos.class))).thenAnswer(invocation -> {
+			BlockPos pos = invocation.getArgument(0);
+			if (pos.equals(POS)) {
+				return Blocks.STONE.defaultBlockState();
+			}
+			return pos.equals(occluderPos) ? occluder : Blocks.AIR.defaultBlockState();
+		});
+		when(this.level.clip(any(ClipContext.class))).thenCallRealMethod();
+		when(this.level.clipWithInteractionOverride(any(), any(), any(), any(), any())).thenCallRealMethod();
+
+		this.point = Vec3.atBottomCenterOf(POS.relative(FACING, PLAYER_DISTANCE));
+		this.player = mock(Player.class);
+		when(this.player.getBoundingBox()).thenReturn(new AABB(this.point.x - 0.3D, this.point.y, this.point.z, this.point.x + 0.3D, this.point.y + 1.8D, this.point.z + 0.6D));
+		when(this.player.getMainHandItem()).thenReturn(ItemStack.EMPTY);
+		when(this.player.getY()).thenReturn(this.point.y);
+
+		this.profile = new SurveyorOcclusionProfile();
+		this.profile.update(this.level, POS, FACING);
+	}
+
+	@Benchmark
+	public boolean raycast() {
+		return SurveyorOcclusionProfile.raycast(this.level, POS, this.point, this.player);
+	}
+
+	@Benchmark
+	public boolean profile() {
+		return this.profile.isVisible(this.level, POS, FACING, this.point.x, this.point.y, this.point.z, this.player);
+	}
+
+	/**
+	 * What a block update inside the view volume costs the next evaluation.
+	 */
+	@Benchmark
+	public boolean rebuildAndProfile() {
+		this.profile.invalidate();
+		this.profile.update(this.level, POS, FACING);
+		return this.profile.isVisible(this.level, POS, FACING, this.point.x, this.point.y, this.point.z, this.player);
+	}
+}
@@ -0,0 +1,137 @@
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.phys.AABB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares {@link ApparitionNearestItemSensor} against the previous sort-then-filter scan with dropped items around a mocked apparition.
+ * <p>
+ * Distances are answered by the mocks, so absolute times include Mockito overhead; the number of distance checks and
+ * the sort are what differ between the two scans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+EnableDynamicAgentLoading")
+@State(Scope.Thread)
+public class ApparitionNearestItemSensorBenchmark {
+	private static final double RADIUS = 24D;
+	private static final double Y_RANGE = 24D;
+
+	@Param({"200"})
+	int items;
+
+	@Param({"true", "false"})
+	boolean slotEmpty;
+
+	@Param({"true", "false"})
+	boolean hasTarget;
+
+	ServerLevel level;
+	Apparition apparition;
+	ApparitionNearestItemSensor sensor;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		RandomSource random = RandomSource.create(0L);
+		Map<Entity, Double> distances = new IdentityHashMap<>();
+		Map<ItemEntity, AABB> boxes = new IdentityHashMap<>();
+		for (int i = 0; i < this.items; i++) {
+			double x = random.nextDouble() * RADIUS * 2D - RADIUS;
+			double y = random.nextDouble() * Y_RANGE * 2D - Y_RANGE;
+			double z = random.nextDouble() * RADIUS * 2D - RADIUS;
+			ItemEntity itemEntity = mock(ItemEntity.class);
+			double distance = x * x + y * y + z * z;
+			when(itemEntity.closerThan(any(Entity.class), anyDouble()))
+				.thenAnswer(invocation -> distance < Math.pow(invocation.<Double>getArgument(1), 2D));
+			distances.put(itemEntity, distance);
+			boxes.put(itemEntity, new AABB(x - 0.125D, y, z - 0.125D, x + 0.125D, y + 0.25D, z + 0.125D));
+		}
+
+		SimpleContainer inventory = new SimpleContainer(1);
+		if (!this.slotEmpty) {
+			inventory.setItem(0, new ItemStack(Items.STICK));
+		}
+		this.apparition = mock(Apparition.class);
+		when(this.apparition.getBrain()).thenReturn(mock(Brain.class));
+		when(this.apparition.getInventory()).thenReturn(inventory);
+		when(this.apparition.getTarget()).thenReturn(this.hasTarget ? mock(LivingEntity.class) : null);
+		when(this.apparition.getBoundingBox()).thenReturn(new AABB(-0.5D, 0D, -0.5D, 0.5D, 1D, 0.5D));
+		when(this.apparition.distanceToSqr(any(Entity.class))).thenAnswer(invocation -> distances.get(invocation.<Entity>getArgument(0)));
+		when(this.apparition.wantsToPickUp(any(ItemEntity.class))).thenAnswer(invocation -> ApparitionSensing.wantsAnyItem(this.apparition));
+
+		this.level = mock(ServerLevel.class);
+		when(this.level.getEntitiesOfClass(eq(ItemEntity.class), any(AABB.class), any(Predicate.class))).thenAnswer(invocation -> {
+			AABB area = invocation.getArgument(1);
+			Predicate<ItemEntity> predicate = invocation.getArgument(2);
+			List<ItemEntity> found = new ArrayList<>();
+			boxes.forEach((itemEntity, box) -> {
+				if (box.intersects(area) && predicate.test(itemEntity)) {
+					found.add(itemEntity);
+				}
+			});
+			return found;
+		});
+
+		this.sensor = new ApparitionNearestItemSensor(20, 1);
+	}
+
+	@Benchmark
+	public void scan() {
+		this.sensor.scan(this.level, this.apparition);
+	}
+
+	/**
+	 * The scan {@link ApparitionNearestItemSensor} ran before it checked its preconditions and compared squared distances.
+	 */
+	@Benchmark
+	public Optional<ItemEntity> legacyScan() {
+		List<ItemEntity> list = this.level.getEntitiesOfClass(ItemEntity.class, this.apparition.getBoundingBox().inflate(RADIUS, Y_RANGE, RADIUS), itemEntity -> true);
+		list.sort(Comparator.comparingDouble(this.apparition::distanceToSqr));
+		return list.stream()
+			.filter(this.apparition::wantsToPickUp)
+			.filter(itemEntity -> itemEntity.closerThan(this.apparition, RADIUS))
+			.findFirst();
+	}
+}
@@ -0,0 +1,95 @@
+package net.frozenblock.trailiertales.worldgen;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sums the small platform contributions of a chunk's worth of noise samples the way the Beardifier does,
+ * through {@link SmallPlatformKernel} and through the scaled bury formula it replaces.
+ * <p>
+ * The pieces are seeded ruin-sized boxes scattered around the chunk, with the Beardifier's small platform
+ * horizontal scale and vertical offset applied.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SmallPlatformKernelBenchmark {
+	private static final int MIN_Y = 40;
+	private static final int MAX_Y = 104;
+	private static final int Y_OFFSET = -13;
+	private static final int HORIZONTAL_SCALE = 2;
+
+	@Param({"4", "16"})
+	int pieces;
+
+	private BoundingBox[] boxes;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		SharedConstants.tryDetectVersion();
+		Bootstrap.bootStrap();
+
+		RandomSource random = RandomSource.create(0L);
+		this.boxes = new BoundingBox[this.pieces];
+		for (int i = 0; i < this.pieces; i++) {
+			int x = random.nextInt(32) - 8;
+			int y = 60 + random.nextInt(8);
+			int z = random.nextInt(32) - 8;
+			this.boxes[i] = new BoundingBox(x, y, z, x + 4 + random.nextInt(6), y + 3 + random.nextInt(5), z + 4 + random.nextInt(6));
+		}
+	}
+
+	@Benchmark
+	public double kernel() {
+		double total = 0D;
+		for (int x = 0; x < 16; x++) {
+			for (int z = 0; z < 16; z++) {
+				for (int y = MIN_Y; y < MAX_Y; y++) {
+					for (BoundingBox box : this.boxes) {
+						int dx = Math.max(0, Math.max(box.minX() - x, x - box.maxX()) * HORIZONTAL_SCALE);
+						int dz = Math.max(0, Math.max(box.minZ() - z, z - box.maxZ()) * HORIZONTAL_SCALE);
+						int dy = y - (box.minY() + Y_OFFSET);
+						total += SmallPlatformKernel.getContribution(dx, dy / 2D, dz);
+					}
+				}
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public double formula() {
+		double total = 0D;
+		for (int x = 0; x < 16; x++) {
+			for (int z = 0; z < 16; z++) {
+				for (int y = MIN_Y; y < MAX_Y; y++) {
+					for (BoundingBox box : this.boxes) {
+						int dx = Math.max(0, Math.max(box.minX() - x, x - box.maxX()) * HORIZONTAL_SCALE);
+						int dz = Math.max(0, Math.max(box.minZ() - z, z - box.maxZ()) * HORIZONTAL_SCALE);
+						int dy = y - (box.minY() + Y_OFFSET);
+						total += SmallPlatformKernel.computeContribution(dx, dy / 2D, dz);
+					}
+				}
+			}
+		}
+		return total;
+	}
+}
@@ -3,11 +3,19 @@ package net.frozenblock.trailiertales;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.lib.advancement.api.AdvancementAPI;
 import net.frozenblock.lib.advancement.api.AdvancementEvents;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinRegistry;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorIndex;
+import net.frozenblock.trailiertales.command.CoffinCommand;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAidClaims;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionIndex;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionWalkValueCache;
 import net.frozenblock.trailiertales.mod_compat.TrailierModIntegrations;
+import net.frozenblock.trailiertales.networking.TrailierNetworking;
 import net.frozenblock.trailiertales.registry.RegisterBlockEntities;
 import net.frozenblock.trailiertales.registry.RegisterBlocks;
 import net.frozenblock.trailiertales.registry.RegisterEnchantments;
@@ -23,6 +31,7 @@ import net.frozenblock.trailiertales.registry.RegisterRecipies;
 import net.frozenblock.trailiertales.registry.RegisterSensorTypes;
 import net.frozenblock.trailiertales.registry.RegisterSounds;
 import net.frozenblock.trailiertales.worldgen.TrailierBiomeModifications;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
 import net.minecraft.advancements.Advancement;
 import net.minecraft.advancements.CriteriaTriggers;
 import net.minecraft.advancements.Criterion;
@@ -57,6 +66,14 @@ public class TrailierTales extends FrozenModInitializer {
 		RegisterEnchantments.init();
 		RegisterMobEffects.init();
 		RegisterJukeboxSongs.init();
+		CoffinRegistry.init();
+		CatacombsBoundsIndex.init();
+		ApparitionAidClaims.init();
+		ApparitionIndex.init();
+		ApparitionWalkValueCache.init();
+		TrailierNetworking.init();
+		SurveyorIndex.init();
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> CoffinCommand.register(dispatcher));
 
 		AdvancementEvents.INIT.register((holder, registries) -> {
 			Advancement advancement = holder.value();
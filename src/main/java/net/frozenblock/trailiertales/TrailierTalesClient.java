@@ -11,6 +11,7 @@ import net.frozenblock.lib.block.api.entity.BlockEntityWithoutLevelRendererRegis
 import net.frozenblock.trailiertales.block.render.CoffinRenderer;
 import net.frozenblock.trailiertales.entity.render.model.ApparitionModel;
 import net.frozenblock.trailiertales.entity.render.renderer.ApparitionRenderer;
+import net.frozenblock.trailiertales.networking.TrailierClientNetworking;
 import net.frozenblock.trailiertales.particle.ColorableBubbleParticle;
 import net.frozenblock.trailiertales.particle.GlowingColorTransitionParticle;
 import net.frozenblock.trailiertales.particle.GlowingSpellParticle;
@@ -72,5 +73,7 @@ public class TrailierTalesClient implements ClientModInitializer {
 		particleRegistry.register(RegisterParticles.COLORABLE_BUBBLE, ColorableBubbleParticle.Provider::new);
 		particleRegistry.register(RegisterParticles.GLOWING_ENTITY_EFFECT, GlowingSpellParticle.MobEffectProvider::new);
 		particleRegistry.register(RegisterParticles.GLOWING_DUST_COLOR_TRANSITION, GlowingColorTransitionParticle.Provider::new);
+
+		TrailierClientNetworking.init();
 	}
 }
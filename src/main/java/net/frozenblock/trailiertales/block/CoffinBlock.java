@@ -6,6 +6,7 @@ import java.util.List;
 import net.frozenblock.trailiertales.TrailierConstants;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawnerState;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinData;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinInterface;
 import net.frozenblock.trailiertales.block.impl.CoffinPart;
 import net.frozenblock.trailiertales.block.impl.TrailierBlockStateProperties;
@@ -89,6 +90,15 @@ public class CoffinBlock extends HorizontalDirectionalBlock implements EntityBlo
 		}
 	}
 
+	@Override
+	protected void neighborChanged(BlockState state, Level level, BlockPos pos, Block neighborBlock, BlockPos neighborPos, boolean movedByPiston) {
+		super.neighborChanged(state, level, pos, neighborBlock, neighborPos, movedByPiston);
+		BlockPos footPos = state.getValue(PART) == CoffinPart.HEAD ? pos.relative(getConnectedDirection(state)) : pos;
+		if (level.getBlockEntity(footPos) instanceof CoffinBlockEntity coffinBlockEntity) {
+			coffinBlockEntity.getCoffinSpawner().wake();
+		}
+	}
+
 	private static Direction getNeighbourDirection(CoffinPart part, Direction direction) {
 		return part == CoffinPart.FOOT ? direction : direction.getOpposite();
 	}
@@ -237,6 +247,10 @@ public class CoffinBlock extends HorizontalDirectionalBlock implements EntityBlo
 			}
 		}
 		if (entity instanceof EntityCoffinInterface entityInterface) {
+			EntityCoffinData entityCoffinData = entityInterface.trailierTales$getCoffinData();
+			if (entityCoffinData != null) {
+				entityCoffinData.getSpawner(entity.level()).ifPresent(coffinSpawner -> coffinSpawner.untrackEntity(entity.level(), entity));
+			}
 			entityInterface.trailierTales$setCoffinData(null);
 		}
 		if (entity instanceof Apparition apparition) {
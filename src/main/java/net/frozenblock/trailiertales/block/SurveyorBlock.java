@@ -3,10 +3,8 @@ package net.frozenblock.trailiertales.block;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.frozenblock.trailiertales.block.entity.SurveyorBlockEntity;
-import net.frozenblock.trailiertales.registry.RegisterBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.item.context.BlockPlaceContext;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
@@ -17,15 +15,12 @@ import net.minecraft.world.level.block.Mirror;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
 import net.minecraft.world.level.block.state.properties.DirectionProperty;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 public class SurveyorBlock extends BaseEntityBlock {
 	public static final MapCodec<SurveyorBlock> CODEC = RecordCodecBuilder.mapCodec(
@@ -112,6 +107,7 @@ public class SurveyorBlock extends BaseEntityBlock {
 				this.updateNeighborsInFront(level, pos, state.setValue(POWERED, false));
 			}
 		}
+		super.onRemove(state, level, pos, newState, movedByPiston);
 	}
 
 	@Override
@@ -128,12 +124,4 @@ public class SurveyorBlock extends BaseEntityBlock {
 			}
 		}
 	}
-
-	@Override
-	@Nullable
-	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> blockEntityType) {
-		return level instanceof ServerLevel serverLevel
-			? createTickerHelper(blockEntityType, RegisterBlockEntities.SURVEYOR, (unusedWorld, pos, statex, surveyor) -> surveyor.tickServer(serverLevel, pos, statex))
-			: null;
-	}
 }
@@ -1,45 +1,42 @@
 package net.frozenblock.trailiertales.block.entity;
 
 import java.util.List;
-import java.util.Optional;
 import net.frozenblock.trailiertales.block.SurveyorBlock;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorCandidates;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorIndex;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorOcclusionProfile;
 import net.frozenblock.trailiertales.registry.RegisterBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.ProjectileUtil;
-import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.BlockHitResult;
-import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
 public class SurveyorBlockEntity extends BlockEntity {
-	private int detectionCooldown;
+	public static final int MAX_DETECTION_DISTANCE = 16;
+	private static final double EYE_OFFSET = 0.55D;
+	private final SurveyorOcclusionProfile occlusionProfile = new SurveyorOcclusionProfile();
 	private int lastDetectionPower;
+	private int hysteresis;
 
 	public SurveyorBlockEntity(BlockPos pos, BlockState state) {
 		super(RegisterBlockEntities.SURVEYOR, pos, state);
 	}
 
-	private static Vec3 chooseClosestPos(@NotNull Vec3 origin, Vec3 posA, Vec3 posB) {
-		if (origin.distanceTo(posA) > origin.distanceTo(posB)) {
-			return posB;
-		}
-		return posA;
-	}
-
 	public static @NotNull Vec3 getEyePosition(@NotNull BlockPos pos, @NotNull BlockState state) {
-		return getEyePosition(pos, state, 0.55D);
+		return getEyePosition(pos, state, EYE_OFFSET);
 	}
 
 	public static @NotNull Vec3 getViewEndPosition(@NotNull BlockPos pos, @NotNull BlockState state) {
@@ -60,100 +57,185 @@ public class SurveyorBlockEntity extends BlockEntity {
 	protected void loadAdditional(CompoundTag nbt, HolderLookup.Provider lookupProvider) {
 		super.loadAdditional(nbt, lookupProvider);
 		this.lastDetectionPower = nbt.getInt("last_detection_power");
-		this.detectionCooldown = nbt.getInt("detection_cooldown");
+		this.hysteresis = Math.clamp(nbt.getInt("hysteresis"), 0, 15);
 	}
 
 	@Override
 	protected void saveAdditional(CompoundTag nbt, HolderLookup.Provider lookupProvider) {
 		super.saveAdditional(nbt, lookupProvider);
-		nbt.putInt("last_detection_power", this.lastDetectionPower);
-		nbt.putInt("detection_cooldown", this.detectionCooldown);
-	}
-
-	public void tickServer(ServerLevel serverLevel, BlockPos pos, BlockState state) {
-		if (this.detectionCooldown <= 0) {
-			this.detectionCooldown = 2;
-
-			int closestDetection = 16;
-
-			BlockPos inFrontPos = pos.relative(state.getValue(SurveyorBlock.FACING));
-			BlockState inFrontState = serverLevel.getBlockState(pos.relative(state.getValue(SurveyorBlock.FACING)));
-			boolean isBlocked = inFrontState.isCollisionShapeFullBlock(level, inFrontPos);
-
-			if (!isBlocked) {
-				Vec3 surveyorCenterPos = Vec3.atCenterOf(pos);
-				Vec3 startClipPos = getEyePosition(pos, state);
-				Vec3 endClipPos = getViewEndPosition(pos, state);
-				BlockPos startBlockPos = BlockPos.containing(startClipPos);
-				BlockPos endBlockPos = BlockPos.containing(endClipPos);
-
-				AABB detectionBox = AABB.encapsulatingFullBlocks(startBlockPos, endBlockPos);
-				List<Player> players = serverLevel.getEntities(
-					EntityTypeTest.forClass(Player.class),
-					detectionBox,
-					EntitySelector.NO_SPECTATORS
-				);
-
-				for (Player player : players) {
-					Vec3 closestPoint = closestPointTo(player.getBoundingBox(), startClipPos);
-					Optional<Vec3> headPoint = Optional.empty();
-					Optional<Vec3> footPoint = Optional.empty();
-					if (player.isInvisible()) {
-						if (player.getInventory().armor.get(1).isEmpty() && player.getInventory().armor.get(2).isEmpty()) {
-							if (!player.getInventory().armor.get(0).isEmpty() && detectionBox.contains(player.position())) {
-								footPoint = Optional.of(player.position());
-							}
-							if (!player.getInventory().armor.get(3).isEmpty() && detectionBox.contains(player.getEyePosition())) {
-								headPoint = Optional.of(player.getEyePosition());
-							}
-
-							if (headPoint.isPresent() && footPoint.isPresent()) {
-								closestPoint = chooseClosestPos(closestPoint, headPoint.get(), footPoint.get());
-							} else if (headPoint.isPresent()) {
-								closestPoint = headPoint.get();
-							} else if (footPoint.isPresent()) {
-								closestPoint = footPoint.get();
-							} else {
-								continue;
-							}
-						}
+		if (this.lastDetectionPower != 0) {
+			nbt.putInt("last_detection_power", this.lastDetectionPower);
+		}
+		if (this.hysteresis != 0) {
+			nbt.putInt("hysteresis", this.hysteresis);
+		}
+	}
+
+	@Override
+	public void clearRemoved() {
+		super.clearRemoved();
+		this.register();
+	}
+
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		this.unregister();
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	public void setBlockState(@NotNull BlockState state) {
+		boolean facingChanged = state.getValue(SurveyorBlock.FACING) != this.getBlockState().getValue(SurveyorBlock.FACING);
+		if (facingChanged) {
+			this.unregister();
+		}
+		super.setBlockState(state);
+		if (facingChanged && !this.isRemoved()) {
+			this.register();
+		}
+	}
+
+	private void register() {
+		this.occlusionProfile.invalidate();
+		if (this.level instanceof ServerLevel serverLevel) {
+			SurveyorIndex.get(serverLevel).add(this);
+		}
+	}
+
+	private void unregister() {
+		if (this.level instanceof ServerLevel serverLevel) {
+			SurveyorIndex.get(serverLevel).remove(this);
+		}
+	}
+
+	/**
+	 * @return the blocks a player has to be inside of to be detected.
+	 */
+	public @NotNull AABB getDetectionBox() {
+		BlockPos pos = this.getBlockPos();
+		BlockState state = this.getBlockState();
+		return AABB.encapsulatingFullBlocks(BlockPos.containing(getEyePosition(pos, state)), BlockPos.containing(getViewEndPosition(pos, state)));
+	}
+
+	/**
+	 * Detects the closest visible player and updates the surveyor's power.
+	 *
+	 * @return whether a player was inside the detection box, in which case the surveyor should keep being evaluated.
+	 */
+	public boolean evaluate(@NotNull ServerLevel serverLevel, @NotNull SurveyorCandidates candidates) {
+		BlockPos pos = this.getBlockPos();
+		Direction facing = this.getBlockState().getValue(SurveyorBlock.FACING);
+		this.occlusionProfile.update(serverLevel, pos, facing);
+
+		boolean hasCandidates = false;
+		int closestDetection = MAX_DETECTION_DISTANCE;
+		if (!this.occlusionProfile.isBlocked()) {
+			AABB detectionBox = this.getDetectionBox();
+			candidates.clear();
+			serverLevel.getEntities(EntityTypeTest.forClass(Player.class), detectionBox, EntitySelector.NO_SPECTATORS, candidates.getPlayers());
+			hasCandidates = !candidates.getPlayers().isEmpty();
+			closestDetection = detect(serverLevel, pos, facing, detectionBox, this.occlusionProfile, candidates);
+			candidates.clear();
+		}
+		this.updateDetectionPower(serverLevel, Math.clamp(15 - closestDetection, 0, 15));
+		return hasCandidates;
+	}
+
+	/**
+	 * Finds how far the closest visible player in {@link SurveyorCandidates#getPlayers()} is from the surveyor's eye.
+	 * <p>
+	 * Players are sorted by the squared distance of their closest visible point,
+	 * so only players up to the first one with a clear line of sight are raycast.
+	 *
+	 * @return the distance in whole blocks, or {@link #MAX_DETECTION_DISTANCE} if no player is visible.
+	 */
+	public static int detect(
+		@NotNull Level level,
+		@NotNull BlockPos pos,
+		@NotNull Direction facing,
+		@NotNull AABB detectionBox,
+		@NotNull SurveyorOcclusionProfile occlusionProfile,
+		@NotNull SurveyorCandidates candidates
+	) {
+		double eyeX = pos.getX() + 0.5D + EYE_OFFSET * facing.getStepX();
+		double eyeY = pos.getY() + 0.5D + EYE_OFFSET * facing.getStepY();
+		double eyeZ = pos.getZ() + 0.5D + EYE_OFFSET * facing.getStepZ();
+
+		List<Player> players = candidates.getPlayers();
+		for (int i = 0, size = players.size(); i < size; i++) {
+			Player player = players.get(i);
+			AABB box = player.getBoundingBox();
+			double x = Mth.clamp(eyeX, box.minX, box.maxX);
+			double y = Mth.clamp(eyeY, box.minY, box.maxY);
+			double z = Mth.clamp(eyeZ, box.minZ, box.maxZ);
+
+			if (player.isInvisible()) {
+				NonNullList<ItemStack> armor = player.getInventory().armor;
+				if (armor.get(1).isEmpty() && armor.get(2).isEmpty()) {
+					double footY = player.getY();
+					double headY = player.getEyeY();
+					boolean foot = !armor.get(0).isEmpty() && detectionBox.contains(player.getX(), footY, player.getZ());
+					boolean head = !armor.get(3).isEmpty() && detectionBox.contains(player.getX(), headY, player.getZ());
+					if (!foot && !head) {
+						continue;
 					}
-					int distance = (int) closestPoint.distanceTo(startClipPos);
-					if (distance < closestDetection) {
-						HitResult hitResult = ProjectileUtil.getHitResult(
-							closestPoint,
-							player,
-							EntitySelector.NO_SPECTATORS.and(entity -> !entity.isInvisible()),
-							surveyorCenterPos.subtract(closestPoint),
-							serverLevel,
-							0F,
-							ClipContext.Block.COLLIDER
-						);
-						if (hitResult.getType() == HitResult.Type.BLOCK) {
-							BlockHitResult blockHitResult = (BlockHitResult) hitResult;
-							if (blockHitResult.getBlockPos().equals(pos)) {
-								closestDetection = distance;
-							}
-						}
+					if (foot && head) {
+						double headDistanceSqr = Mth.lengthSquared(player.getX() - x, headY - y, player.getZ() - z);
+						double footDistanceSqr = Mth.lengthSquared(player.getX() - x, footY - y, player.getZ() - z);
+						y = headDistanceSqr > footDistanceSqr ? footY : headY;
+					} else {
+						y = head ? headY : footY;
 					}
+					x = player.getX();
+					z = player.getZ();
 				}
 			}
-			this.lastDetectionPower = Math.clamp(15 - closestDetection, 0, 15);
-			SurveyorBlock.updatePower(serverLevel, pos, state, this.lastDetectionPower);
-		} else {
-			this.detectionCooldown -= 1;
+			candidates.add(player, x, y, z, Mth.lengthSquared(x - eyeX, y - eyeY, z - eyeZ));
+		}
+
+		for (int i = 0, size = candidates.size(); i < size; i++) {
+			int distance = (int) Math.sqrt(candidates.getDistanceSqr(i));
+			if (distance >= MAX_DETECTION_DISTANCE) {
+				break;
+			}
+			if (occlusionProfile.isVisible(level, pos, facing, candidates.getX(i), candidates.getY(i), candidates.getZ(i), candidates.getPlayer(i))) {
+				return distance;
+			}
 		}
+		return MAX_DETECTION_DISTANCE;
 	}
 
-	private Vec3 closestPointTo(@NotNull AABB aabb, @NotNull Vec3 point) {
-		Vec3[] vec3s = new Vec3[1];
-		double d = Mth.clamp(point.x(), aabb.minX, aabb.maxX);
-		double e = Mth.clamp(point.y(), aabb.minY, aabb.maxY);
-		double f = Mth.clamp(point.z(), aabb.minZ, aabb.maxZ);
-		if (vec3s[0] == null || point.distanceToSqr(d, e, f) < point.distanceToSqr(vec3s[0])) {
-			vec3s[0] = new Vec3(d, e, f);
+	/**
+	 * Moves the output to the detected power, unless it is within {@link #getHysteresis()} of the current output.
+	 * <p>
+	 * Turning on and off always goes through, and neighbours are only notified once at the end of the tick.
+	 */
+	private void updateDetectionPower(@NotNull ServerLevel serverLevel, int detectionPower) {
+		int difference = Math.abs(detectionPower - this.lastDetectionPower);
+		if (difference == 0 || (detectionPower != 0 && this.lastDetectionPower != 0 && difference <= this.hysteresis)) {
+			return;
 		}
-		return vec3s[0];
+		this.lastDetectionPower = detectionPower;
+		SurveyorIndex.get(serverLevel).queueOutputUpdate(this);
+	}
+
+	public void flushOutputUpdate() {
+		if (this.level == null || this.isRemoved()) {
+			return;
+		}
+
+		BlockState state = this.getBlockState();
+		if (state.getValue(SurveyorBlock.POWERED) != this.lastDetectionPower > 0) {
+			this.level.blockEntityChanged(this.worldPosition);
+			SurveyorBlock.updatePower(this.level, this.worldPosition, state, this.lastDetectionPower);
+		} else {
+			this.setChanged();
+		}
+	}
+
+	public SurveyorOcclusionProfile getOcclusionProfile() {
+		return this.occlusionProfile;
 	}
 
 	public int getLastDetectionPower() {
@@ -163,4 +245,13 @@ public class SurveyorBlockEntity extends BlockEntity {
 	public void setLastDetectionPower(int lastDetectionPower) {
 		this.lastDetectionPower = lastDetectionPower;
 	}
+
+	public int getHysteresis() {
+		return this.hysteresis;
+	}
+
+	public void setHysteresis(int hysteresis) {
+		this.hysteresis = Math.clamp(hysteresis, 0, 15);
+		this.setChanged();
+	}
 }
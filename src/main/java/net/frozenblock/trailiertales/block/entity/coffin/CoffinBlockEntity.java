@@ -2,6 +2,7 @@ package net.frozenblock.trailiertales.block.entity.coffin;
 
 import com.mojang.logging.LogUtils;
 import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinRegistry;
 import net.frozenblock.trailiertales.block.impl.CoffinPart;
 import net.frozenblock.trailiertales.block.impl.TrailierBlockStateProperties;
 import net.frozenblock.trailiertales.registry.RegisterBlockEntities;
@@ -11,6 +12,7 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -24,6 +26,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.trialspawner.PlayerDetector;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpawner.StateAccessor {
@@ -32,6 +35,9 @@ public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpa
 
 	private float previousOpenProgress;
 	private float openProgress;
+	@Nullable
+	private CoffinSpawnerState pendingState;
+	private boolean pendingUpdate;
 
 	public CoffinBlockEntity(BlockPos pos, BlockState state) {
 		super(RegisterBlockEntities.COFFIN, pos, state);
@@ -46,13 +52,41 @@ public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpa
 	@Override
 	protected void loadAdditional(CompoundTag nbt, HolderLookup.Provider lookupProvider) {
 		super.loadAdditional(nbt, lookupProvider);
-		if (nbt.contains("normal_config")) {
-			CompoundTag compoundTag = nbt.getCompound("normal_config").copy();
-			nbt.put("ominous_config", compoundTag.merge(nbt.getCompound("ominous_config")));
+		if (this.getBlockState().getValue(TrailierBlockStateProperties.COFFIN_PART) == CoffinPart.FOOT) {
+			this.coffinSpawner.codec().parse(NbtOps.INSTANCE, nbt).resultOrPartial(LOGGER::error).ifPresent(coffinSpawner -> {
+				boolean registered = this.level instanceof ServerLevel && !this.isRemoved();
+				if (registered) {
+					this.unregister();
+				}
+				this.coffinSpawner = coffinSpawner;
+				if (registered) {
+					this.register();
+				}
+			});
 		}
+	}
 
-		if (this.getBlockState().getValue(TrailierBlockStateProperties.COFFIN_PART) == CoffinPart.FOOT) {
-			this.coffinSpawner.codec().parse(NbtOps.INSTANCE, nbt).resultOrPartial(LOGGER::error).ifPresent(coffinSpawner -> this.coffinSpawner = coffinSpawner);
+	@Override
+	public void clearRemoved() {
+		super.clearRemoved();
+		this.register();
+	}
+
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		this.unregister();
+	}
+
+	private void register() {
+		if (this.level instanceof ServerLevel serverLevel && this.getBlockState().getValue(TrailierBlockStateProperties.COFFIN_PART) == CoffinPart.FOOT) {
+			CoffinRegistry.get(serverLevel).add(this);
+		}
+	}
+
+	private void unregister() {
+		if (this.level instanceof ServerLevel serverLevel) {
+			CoffinRegistry.get(serverLevel).remove(this);
 		}
 	}
 
@@ -60,10 +94,18 @@ public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpa
 	protected void saveAdditional(CompoundTag nbt, HolderLookup.Provider lookupProvider) {
 		super.saveAdditional(nbt, lookupProvider);
 		if (this.getBlockState().getValue(TrailierBlockStateProperties.COFFIN_PART) == CoffinPart.FOOT) {
+			CompoundTag savedTag = this.coffinSpawner.getSavedTag();
+			if (savedTag != null) {
+				nbt.merge(savedTag);
+				return;
+			}
 			this.coffinSpawner
 				.codec()
 				.encodeStart(NbtOps.INSTANCE, this.coffinSpawner)
-				.ifSuccess(logicNbt -> nbt.merge((CompoundTag) logicNbt))
+				.ifSuccess(logicNbt -> {
+					this.coffinSpawner.setSavedTag((CompoundTag) logicNbt);
+					nbt.merge((CompoundTag) logicNbt);
+				})
 				.ifError(error -> LOGGER.warn("Failed to encode CoffinSpawner {}", error.message()));
 		}
 	}
@@ -124,6 +166,7 @@ public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpa
 			}
 		}
 		coffinSpawner.getData().setEntityId(entityType, this.level, random, pos);
+		coffinSpawner.wake();
 		this.setChanged();
 	}
 
@@ -133,6 +176,9 @@ public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpa
 
 	@Override
 	public CoffinSpawnerState getState() {
+		if (this.pendingState != null) {
+			return this.pendingState;
+		}
 		return !this.getBlockState().hasProperty(TrailierBlockStateProperties.COFFIN_STATE)
 			? CoffinSpawnerState.INACTIVE
 			: this.getBlockState().getValue(TrailierBlockStateProperties.COFFIN_STATE);
@@ -141,14 +187,44 @@ public class CoffinBlockEntity extends BlockEntity implements Spawner, CoffinSpa
 	@Override
 	public void setState(@NotNull Level level, CoffinSpawnerState state) {
 		this.setChanged();
-		level.setBlockAndUpdate(this.worldPosition, this.getBlockState().setValue(TrailierBlockStateProperties.COFFIN_STATE, state));
+		if (level instanceof ServerLevel serverLevel) {
+			this.pendingState = state;
+			CoffinRegistry.get(serverLevel).queueUpdate(this);
+		} else {
+			level.setBlockAndUpdate(this.worldPosition, this.getBlockState().setValue(TrailierBlockStateProperties.COFFIN_STATE, state));
+		}
 	}
 
 	@Override
 	public void markUpdated() {
 		this.setChanged();
-		if (this.level != null) {
+		if (this.level instanceof ServerLevel serverLevel) {
+			this.pendingUpdate = true;
+			CoffinRegistry.get(serverLevel).queueUpdate(this);
+		} else if (this.level != null) {
 			this.level.sendBlockUpdated(this.worldPosition, this.getBlockState(), this.getBlockState(), Block.UPDATE_ALL);
 		}
 	}
+
+	/**
+	 * Applies the state change and block update queued during this tick.
+	 * <p>
+	 * Changing the block state already sends the block entity's data, so a pending update is dropped alongside it.
+	 */
+	public void flushUpdates() {
+		CoffinSpawnerState state = this.pendingState;
+		boolean update = this.pendingUpdate;
+		this.pendingState = null;
+		this.pendingUpdate = false;
+		if (this.level == null || this.isRemoved()) {
+			return;
+		}
+
+		BlockState blockState = this.getBlockState();
+		if (state != null && blockState.hasProperty(TrailierBlockStateProperties.COFFIN_STATE) && blockState.getValue(TrailierBlockStateProperties.COFFIN_STATE) != state) {
+			this.level.setBlockAndUpdate(this.worldPosition, blockState.setValue(TrailierBlockStateProperties.COFFIN_STATE, state));
+		} else if (update) {
+			this.level.sendBlockUpdated(this.worldPosition, blockState, blockState, Block.UPDATE_ALL);
+		}
+	}
 }
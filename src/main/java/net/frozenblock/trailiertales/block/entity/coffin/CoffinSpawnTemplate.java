@@ -0,0 +1,47 @@
+package net.frozenblock.trailiertales.block.entity.coffin;
+
+import java.util.Optional;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.EquipmentTable;
+import net.minecraft.world.level.SpawnData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The parts of a {@link SpawnData} a {@link CoffinSpawner} needs on every spawn attempt, read from its NBT once.
+ * <p>
+ * Only valid for as long as the {@link SpawnData} it was compiled from is not modified.
+ */
+public record CoffinSpawnTemplate(
+	SpawnData spawnData,
+	@Nullable EntityType<?> entityType,
+	boolean hasEntityId,
+	int fixedPositions,
+	double fixedX,
+	double fixedY,
+	double fixedZ,
+	Optional<EquipmentTable> equipment,
+	boolean finalizeSpawn
+) {
+
+	@NotNull
+	public static CoffinSpawnTemplate compile(@NotNull SpawnData spawnData) {
+		CompoundTag compoundTag = spawnData.entityToSpawn();
+		ListTag listTag = compoundTag.getList("Pos", 6);
+		int fixedPositions = Math.min(listTag.size(), 3);
+		boolean hasEntityId = compoundTag.contains("id", 8);
+		return new CoffinSpawnTemplate(
+			spawnData,
+			EntityType.by(compoundTag).orElse(null),
+			hasEntityId,
+			fixedPositions,
+			fixedPositions >= 1 ? listTag.getDouble(0) : 0D,
+			fixedPositions >= 2 ? listTag.getDouble(1) : 0D,
+			fixedPositions >= 3 ? listTag.getDouble(2) : 0D,
+			spawnData.getEquipment(),
+			compoundTag.size() == 1 && hasEntityId
+		);
+	}
+}
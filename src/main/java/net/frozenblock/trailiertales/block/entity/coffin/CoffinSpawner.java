@@ -3,27 +3,30 @@ package net.frozenblock.trailiertales.block.entity.coffin;
 import com.google.common.annotations.VisibleForTesting;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import net.frozenblock.trailiertales.block.CoffinBlock;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinSpawnPositions;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinData;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinInterface;
 import net.frozenblock.trailiertales.block.impl.CoffinPart;
 import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
 import net.frozenblock.trailiertales.registry.RegisterEntities;
 import net.frozenblock.trailiertales.registry.RegisterParticles;
 import net.frozenblock.trailiertales.registry.RegisterSounds;
-import net.frozenblock.trailiertales.worldgen.structure.CatacombsGenerator;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
+import net.minecraft.core.UUIDUtil;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.particles.SimpleParticleType;
-import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
@@ -42,10 +45,8 @@ import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.SpawnData;
-import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.block.entity.trialspawner.PlayerDetector;
 import net.minecraft.world.level.gameevent.GameEvent;
-import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
@@ -57,11 +58,18 @@ public final class CoffinSpawner {
 	private static final int PLAYER_TRACKING_DISTANCE = 48;
 	private static final int MAX_MOB_TRACKING_DISTANCE = 64;
 	private static final int MAX_MOB_TRACKING_DISTANCE_SQR = Mth.square(MAX_MOB_TRACKING_DISTANCE);
+	private static final int MAX_SPAWN_POSITION_ATTEMPTS = 4;
+	/**
+	 * Written with every save so later format changes can tell saves apart; saves from before versioning read as 0
+	 * and are handled by the codec alternatives.
+	 */
+	private static final int FORMAT_VERSION = 1;
+	private static final Codec<UUID> UUID_CODEC = Codec.withAlternative(UUIDUtil.CODEC, UUIDUtil.STRING_CODEC);
 	public static final PlayerDetector IN_CATACOMBS_NO_CREATIVE_PLAYERS = (world, entitySelector, pos, d, bl) -> entitySelector.getPlayers(
 			world, player -> player.blockPosition().closerThan(pos, d) && !player.isCreative() && !player.isSpectator()
 		)
 		.stream()
-		.filter(player -> !bl || isInCatacombsBounds(player.blockPosition(), world.structureManager()))
+		.filter(player -> !bl || isInCatacombsBounds(player.blockPosition(), world))
 		.map(Entity::getUUID)
 		.toList();
 	private final CoffinSpawnerConfig normalConfig;
@@ -75,26 +83,56 @@ public final class CoffinSpawner {
 	private boolean overridePeacefulAndMobSpawnRule;
 	private final UUID uuid;
 	private boolean attemptingToSpawnMob;
+	private boolean validateTrackedEntities = true;
+	private boolean playersChanged = true;
+	private boolean dormant;
+	private final CoffinSpawnPositions spawnPositions = new CoffinSpawnPositions();
+	private boolean dirty = true;
+	@Nullable
+	private CompoundTag savedTag;
+	@Nullable
+	private Codec<CoffinSpawner> codec;
 
 	public Codec<CoffinSpawner> codec() {
-		return RecordCodecBuilder.create(
-			instance -> instance.group(
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("normal_config", CoffinSpawnerConfig.DEFAULT).forGetter(CoffinSpawner::getNormalConfig),
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("irritated_config", CoffinSpawnerConfig.IRRITATED).forGetter(CoffinSpawner::getIrritatedConfig),
-					CoffinSpawnerConfig.CODEC.optionalFieldOf("aggressive_config", CoffinSpawnerConfig.AGGRESSIVE).forGetter(CoffinSpawner::getAggressiveConfig),
-					CoffinSpawnerData.MAP_CODEC.forGetter(CoffinSpawner::getData),
-					Codec.intRange(0, Integer.MAX_VALUE).optionalFieldOf("power_cooldown_length", 12000).forGetter(CoffinSpawner::getPowerCooldownLength),
-					Codec.intRange(1, PLAYER_TRACKING_DISTANCE).optionalFieldOf("required_player_range", PLAYER_TRACKING_DISTANCE).forGetter(CoffinSpawner::getRequiredPlayerRange),
-					Codec.STRING.optionalFieldOf("uuid", UUID.randomUUID().toString()).forGetter(CoffinSpawner::getStringUUID),
-					Codec.BOOL.optionalFieldOf("attempting_to_spawn_mob", false).forGetter(CoffinSpawner::isAttemptingToSpawnMob)
-				)
-				.apply(
-					instance,
-					(config, config2, config3, data, powerCooldownLength, integer, uuid, attemptingSpawn) -> new CoffinSpawner(
-						config, config2, config3, data, powerCooldownLength, integer, uuid, attemptingSpawn, this.stateAccessor, this.entitySelector
+		if (this.codec == null) {
+			this.codec = RecordCodecBuilder.create(
+				instance -> instance.group(
+						Codec.INT.optionalFieldOf("format_version", 0).forGetter(spawner -> FORMAT_VERSION),
+						CoffinSpawnerConfig.CODEC.optionalFieldOf("normal_config", CoffinSpawnerConfig.DEFAULT).forGetter(CoffinSpawner::getNormalConfig),
+						CoffinSpawnerConfig.CODEC.optionalFieldOf("irritated_config", CoffinSpawnerConfig.IRRITATED).forGetter(CoffinSpawner::getIrritatedConfig),
+						CoffinSpawnerConfig.CODEC.optionalFieldOf("aggressive_config", CoffinSpawnerConfig.AGGRESSIVE).forGetter(CoffinSpawner::getAggressiveConfig),
+						CoffinSpawnerData.MAP_CODEC.forGetter(CoffinSpawner::getData),
+						Codec.intRange(0, Integer.MAX_VALUE).optionalFieldOf("power_cooldown_length", 12000).forGetter(CoffinSpawner::getPowerCooldownLength),
+						Codec.intRange(1, PLAYER_TRACKING_DISTANCE).optionalFieldOf("required_player_range", PLAYER_TRACKING_DISTANCE).forGetter(CoffinSpawner::getRequiredPlayerRange),
+						UUID_CODEC.optionalFieldOf("uuid").forGetter(spawner -> Optional.of(spawner.getUUID())),
+						Codec.BOOL.optionalFieldOf("attempting_to_spawn_mob", false).forGetter(CoffinSpawner::isAttemptingToSpawnMob)
 					)
-				)
-		);
+					.apply(
+						instance,
+						(formatVersion, config, config2, config3, data, powerCooldownLength, integer, uuid, attemptingSpawn) -> new CoffinSpawner(
+							config, config2, config3, data, powerCooldownLength, integer, uuid.orElseGet(UUID::randomUUID), attemptingSpawn, this.stateAccessor, this.entitySelector
+						)
+					)
+			);
+		}
+		return this.codec;
+	}
+
+	/**
+	 * @return the last encoded form of this spawner, or {@code null} if it has changed since.
+	 */
+	@Nullable
+	public CompoundTag getSavedTag() {
+		return this.dirty ? null : this.savedTag;
+	}
+
+	public void setSavedTag(@NotNull CompoundTag savedTag) {
+		this.savedTag = savedTag;
+		this.dirty = false;
+	}
+
+	public void markDirty() {
+		this.dirty = true;
 	}
 
 	public @NotNull CompoundTag getUpdateTag() {
@@ -111,7 +149,7 @@ public final class CoffinSpawner {
 			new CoffinSpawnerData(),
 			12000,
 			PLAYER_TRACKING_DISTANCE,
-			UUID.randomUUID().toString(),
+			UUID.randomUUID(),
 			false,
 			coffin,
 			playerDetectionSelector
@@ -125,7 +163,7 @@ public final class CoffinSpawner {
 		CoffinSpawnerData data,
 		int powerCooldownLength,
 		int requiredPlayerRange,
-		String uuid,
+		UUID uuid,
 		boolean attemptingToSpawnMob,
 		CoffinSpawner.StateAccessor coffin,
 		PlayerDetector.EntitySelector playerDetectionSelector
@@ -136,7 +174,7 @@ public final class CoffinSpawner {
 		this.data = data;
 		this.powerCooldownLength = powerCooldownLength;
 		this.requiredPlayerRange = requiredPlayerRange;
-		this.uuid = UUID.fromString(uuid);
+		this.uuid = uuid;
 		this.attemptingToSpawnMob = attemptingToSpawnMob;
 		this.stateAccessor = coffin;
 		this.entitySelector = playerDetectionSelector;
@@ -191,11 +229,13 @@ public final class CoffinSpawner {
 
 	public void addPower(int i, @NotNull Level level) {
 		this.data.power += i;
+		this.markDirty();
 		this.data.powerCooldownEndsAt = level.getGameTime() + this.powerCooldownLength;
 	}
 
-	public void addSoulParticle(int delayUntilSpawn) {
-		this.data.soulsToSpawn.add(delayUntilSpawn);
+	public void addSoulParticle(int delayUntilSpawn, @NotNull Level level) {
+		this.data.queueSoul(level.getGameTime() + delayUntilSpawn);
+		this.wake();
 	}
 
 	public CoffinSpawnerState getState() {
@@ -228,88 +268,115 @@ public final class CoffinSpawner {
 
 	public Optional<UUID> spawnMob(@NotNull ServerLevel level, BlockPos pos) {
 		RandomSource randomSource = level.getRandom();
-		SpawnData spawnData = this.data.getOrCreateNextSpawnData(level, level.getRandom(), pos);
-		CompoundTag compoundTag = spawnData.entityToSpawn();
-		ListTag listTag = compoundTag.getList("Pos", 6);
-		Optional<EntityType<?>> optional = EntityType.by(compoundTag);
-		if (optional.isEmpty()) {
+		CoffinSpawnTemplate spawnTemplate = this.data.getOrCreateSpawnTemplate(level, level.getRandom(), pos);
+		EntityType<?> entityType = spawnTemplate.entityType();
+		if (entityType == null) {
 			return Optional.empty();
-		} else {
-			int i = listTag.size();
+		}
+
+		int i = spawnTemplate.fixedPositions();
+		int attempts = i >= 3 ? 1 : MAX_SPAWN_POSITION_ATTEMPTS;
+		for (int attempt = 0; attempt < attempts; attempt++) {
+			this.spawnPositions.countAttempt();
 			double d = i >= 1
-				? listTag.getDouble(0)
+				? spawnTemplate.fixedX()
 				: (double)pos.getX() + (randomSource.nextDouble() - randomSource.nextDouble()) * (double)this.getConfig().spawnRange() + 0.5;
-			double e = i >= 2 ? listTag.getDouble(1) : (double)(pos.getY() + randomSource.nextInt(3) - 1);
+			double e = i >= 2 ? spawnTemplate.fixedY() : (double)(pos.getY() + randomSource.nextInt(3) - 1);
 			double f = i >= 3
-				? listTag.getDouble(2)
+				? spawnTemplate.fixedZ()
 				: (double)pos.getZ() + (randomSource.nextDouble() - randomSource.nextDouble()) * (double)this.getConfig().spawnRange() + 0.5;
-			if (!level.noCollision(optional.get().getSpawnAABB(d, e, f))) {
-				return Optional.empty();
-			} else {
-				Vec3 vec3 = new Vec3(d, e, f);
-				if (!inLineOfSight(level, pos.getCenter(), vec3)) {
-					return Optional.empty();
-				} else {
-					BlockPos blockPos = BlockPos.containing(vec3);
-					if (!SpawnPlacements.checkSpawnRules(optional.get(), level, MobSpawnType.TRIAL_SPAWNER, blockPos, level.getRandom())) {
-						return Optional.empty();
-					} else {
-						if (spawnData.getCustomSpawnRules().isPresent()) {
-							SpawnData.CustomSpawnRules customSpawnRules = spawnData.getCustomSpawnRules().get();
-							if (!customSpawnRules.isValidPosition(blockPos, level)) {
-								return Optional.empty();
-							}
-						}
-
-						int lightAtPos = level.getRawBrightness(blockPos, 0);
-						int lightToleranceDifference = Math.max(this.data.maxActiveLightLevel, lightAtPos) - this.data.maxActiveLightLevel;
-						if (lightToleranceDifference > 0 && randomSource.nextInt(lightToleranceDifference * 25) > 0) {
-							return Optional.empty();
-						}
-
-						Entity entity = EntityType.loadEntityRecursive(compoundTag, level, entityx -> {
-							entityx.moveTo(d, e, f, randomSource.nextFloat() * 360F, 0F);
-							return entityx;
-						});
-						if (entity == null) {
-							return Optional.empty();
-						} else {
-							if (entity instanceof Mob mob) {
-								if (!mob.checkSpawnObstruction(level)) {
-									return Optional.empty();
-								}
-
-								boolean bl = spawnData.getEntityToSpawn().size() == 1 && spawnData.getEntityToSpawn().contains("id", 8);
-								if (bl) {
-									mob.finalizeSpawn(level, level.getCurrentDifficultyAt(mob.blockPosition()), MobSpawnType.TRIAL_SPAWNER, null);
-								}
-
-								spawnData.getEquipment().ifPresent(mob::equip);
-							}
-
-							if (!level.tryAddFreshEntityWithPassengers(entity)) {
-								return Optional.empty();
-							} else {
-								level.playSound(
-									null,
-									entity,
-									RegisterSounds.COFFIN_SPAWN_MOB,
-									SoundSource.BLOCKS,
-									1F,
-									(randomSource.nextFloat() - randomSource.nextFloat()) * 0.2F + 1F
-								);
-								if (entity instanceof Mob mob) {
-									mob.spawnAnim();
-								}
-								level.gameEvent(entity, GameEvent.ENTITY_PLACE, blockPos);
-								this.appendCoffinSpawnAttributes(entity, level, pos);
-								return Optional.of(entity.getUUID());
-							}
-						}
-					}
+			Vec3 vec3 = new Vec3(d, e, f);
+			BlockPos blockPos = BlockPos.containing(vec3);
+			if (this.spawnPositions.isBlocked(entityType, blockPos.asLong())) {
+				continue;
+			}
+
+			if (level.getBlockState(blockPos).isCollisionShapeFullBlock(level, blockPos)) {
+				this.spawnPositions.block(blockPos.asLong());
+				continue;
+			}
+
+			if (!level.noCollision(entityType.getSpawnAABB(d, e, f)) || !inLineOfSight(level, pos.getCenter(), vec3)) {
+				continue;
+			}
+
+			if (!SpawnPlacements.checkSpawnRules(entityType, level, MobSpawnType.TRIAL_SPAWNER, blockPos, level.getRandom())) {
+				continue;
+			}
+
+			if (spawnTemplate.spawnData().getCustomSpawnRules().isPresent()) {
+				SpawnData.CustomSpawnRules customSpawnRules = spawnTemplate.spawnData().getCustomSpawnRules().get();
+				if (!customSpawnRules.isValidPosition(blockPos, level)) {
+					continue;
 				}
 			}
+
+			int lightAtPos = level.getRawBrightness(blockPos, 0);
+			int lightToleranceDifference = Math.max(this.data.maxActiveLightLevel, lightAtPos) - this.data.maxActiveLightLevel;
+			if (lightToleranceDifference > 0 && randomSource.nextInt(lightToleranceDifference * 25) > 0) {
+				return Optional.empty();
+			}
+
+			Optional<UUID> spawnedMob = this.spawnMobAt(level, pos, spawnTemplate, vec3, blockPos);
+			if (spawnedMob.isPresent()) {
+				this.spawnPositions.countSuccess();
+			}
+			return spawnedMob;
+		}
+		return Optional.empty();
+	}
+
+	private Optional<UUID> spawnMobAt(@NotNull ServerLevel level, BlockPos pos, @NotNull CoffinSpawnTemplate spawnTemplate, Vec3 spawnPos, BlockPos blockPos) {
+		RandomSource randomSource = level.getRandom();
+		Entity entity = EntityType.loadEntityRecursive(spawnTemplate.spawnData().entityToSpawn(), level, entityx -> {
+			entityx.moveTo(spawnPos.x, spawnPos.y, spawnPos.z, randomSource.nextFloat() * 360F, 0F);
+			return entityx;
+		});
+		if (entity == null) {
+			return Optional.empty();
+		}
+
+		if (entity instanceof Mob mob) {
+			if (!mob.checkSpawnObstruction(level)) {
+				return Optional.empty();
+			}
+
+			if (spawnTemplate.finalizeSpawn()) {
+				mob.finalizeSpawn(level, level.getCurrentDifficultyAt(mob.blockPosition()), MobSpawnType.TRIAL_SPAWNER, null);
+			}
+
+			spawnTemplate.equipment().ifPresent(mob::equip);
+		}
+
+		if (!level.tryAddFreshEntityWithPassengers(entity)) {
+			return Optional.empty();
 		}
+
+		level.playSound(
+			null,
+			entity,
+			RegisterSounds.COFFIN_SPAWN_MOB,
+			SoundSource.BLOCKS,
+			1F,
+			(randomSource.nextFloat() - randomSource.nextFloat()) * 0.2F + 1F
+		);
+		if (entity instanceof Mob mob) {
+			mob.spawnAnim();
+		}
+		level.gameEvent(entity, GameEvent.ENTITY_PLACE, blockPos);
+		this.appendCoffinSpawnAttributes(entity, level, pos);
+		return Optional.of(entity.getUUID());
+	}
+
+	/**
+	 * @return the furthest distance from the coffin that any of its configs may spawn a mob at.
+	 */
+	public int getMaxSpawnRange() {
+		return Math.max(this.normalConfig.spawnRange(), Math.max(this.irritatedConfig.spawnRange(), this.aggressiveConfig.spawnRange()));
+	}
+
+	public CoffinSpawnPositions getSpawnPositions() {
+		return this.spawnPositions;
 	}
 
 	public boolean canSpawnApparition(Level level) {
@@ -367,84 +434,133 @@ public final class CoffinSpawner {
 	}
 
 	public void tickServer(ServerLevel world, BlockPos pos, CoffinPart part, boolean ominous) {
-		if (part == CoffinPart.HEAD || world.isClientSide) {
+		if (part == CoffinPart.HEAD || world.isClientSide || this.dormant) {
 			return;
 		}
+		this.markDirty();
 
 		Direction direction = CoffinBlock.getCoffinOrientation(world, pos);
 		if (direction != null) {
-			if (!this.data.soulsToSpawn.isEmpty()) {
+			if (this.data.hasQueuedSouls()) {
+				long gameTime = world.getGameTime();
 				boolean isNegativeDirection = direction.getAxisDirection() == Direction.AxisDirection.NEGATIVE;
 				boolean isOppositeX = isNegativeDirection && direction.getAxis() == Direction.Axis.X;
 				boolean isOppositeZ = isNegativeDirection && direction.getAxis() == Direction.Axis.Z;
-				IntArrayList newList = new IntArrayList();
-				this.data.soulsToSpawn.forEach(spawnTime -> {
-					if (spawnTime <= 0) {
-						double stepX = direction.getStepX();
-						double stepZ = direction.getStepZ();
-						double relativeX = isOppositeX ? 0D : stepX == 0D ? 0.5D : stepX;
-						double relativeZ = isOppositeZ ? 0D : stepZ == 0D ? 0.5D : stepZ;
-						double xOffset = Math.abs(stepX * 0.35D);
-						double zOffset = Math.abs(stepZ * 0.35D);
-						world.sendParticles(
-							RegisterParticles.COFFIN_SOUL_ENTER,
-							pos.getX() + relativeX,
-							pos.getY() + 0.95D,
-							pos.getZ() + relativeZ,
+				double stepX = direction.getStepX();
+				double stepZ = direction.getStepZ();
+				double relativeX = isOppositeX ? 0D : stepX == 0D ? 0.5D : stepX;
+				double relativeZ = isOppositeZ ? 0D : stepZ == 0D ? 0.5D : stepZ;
+				double xOffset = Math.abs(stepX * 0.35D);
+				double zOffset = Math.abs(stepZ * 0.35D);
+				while (this.data.pollSoul(gameTime)) {
+					ParticleBatcher.get(world).sendParticles(
+						RegisterParticles.COFFIN_SOUL_ENTER,
+						pos.getX() + relativeX,
+						pos.getY() + 0.95D,
+						pos.getZ() + relativeZ,
 						4,
-							xOffset,
-							0D,
-							zOffset,
-							0D
-						);
-						this.addPower(1, world);
-					} else {
-						newList.add(spawnTime - 1);
-					}
-				});
-				this.data.soulsToSpawn.clear();
-				this.data.soulsToSpawn.addAll(newList);
+						xOffset,
+						0D,
+						zOffset,
+						0D
+					);
+					this.addPower(1, world);
+				}
 			}
 		}
 
-		this.data.currentMobs.removeIf(uiid -> {
-			Entity entity = world.getEntity(uiid);
-			boolean shouldUntrack = shouldMobBeUntracked(world, pos, entity);
-			if (shouldUntrack) {
-				CoffinBlock.onCoffinUntrack(entity);
-			}
-			return shouldUntrack;
-		});
-
-		this.data.currentApparitions.removeIf(uiid -> {
-			Entity entity = world.getEntity(uiid);
-			boolean shouldUntrack = shouldMobBeUntracked(world, pos, entity);
-			if (shouldUntrack) {
-				CoffinBlock.onCoffinUntrack(entity);
-				this.data.nextApparitionSpawnsAt = world.getGameTime() + 800L;
-			}
-			return shouldUntrack;
-		});
+		if (this.validateTrackedEntities) {
+			this.validateTrackedEntities = false;
+			this.untrackInvalidEntities(world, pos);
+		}
 
 		CoffinSpawnerState currentState = this.getState();
+		CoffinSpawnerState nextState = currentState;
 		if (!this.canSpawnInLevel(world)) {
 			if (currentState.isCapableOfSpawning()) {
-				this.setState(world, CoffinSpawnerState.INACTIVE);
+				nextState = CoffinSpawnerState.INACTIVE;
 			}
 		} else {
-			CoffinSpawnerState nextState = currentState.tickAndGetNext(pos, this, world);
-			if (nextState != currentState) {
-				this.setState(world, nextState);
-			}
+			nextState = currentState.tickAndGetNext(pos, this, world);
+		}
+		if (nextState != currentState) {
+			this.setState(world, nextState);
 		}
 		this.updateAttemptingToSpawn(world, pos, direction);
+		this.dormant = nextState == currentState && this.canBecomeDormant(world);
+	}
+
+	private boolean canBecomeDormant(@NotNull ServerLevel level) {
+		return !this.attemptingToSpawnMob
+			&& !this.validateTrackedEntities
+			&& (!this.playersChanged || !this.getState().isCapableOfSpawning())
+			&& !this.data.detectedAnyPlayers()
+			&& this.data.currentMobs.isEmpty()
+			&& this.data.currentApparitions.isEmpty()
+			&& !this.data.hasQueuedSouls()
+			&& this.data.isPowerCooldownFinished(level);
+	}
+
+	public boolean isDormant() {
+		return this.dormant;
+	}
+
+	public void wake() {
+		this.dormant = false;
+		this.markDirty();
+	}
+
+	public void markPlayersChanged() {
+		this.playersChanged = true;
+		this.dormant = false;
+	}
+
+	public boolean consumePlayersChanged() {
+		boolean playersChanged = this.playersChanged;
+		this.playersChanged = false;
+		return playersChanged;
+	}
+
+	public void onRegistered() {
+		this.validateTrackedEntities = true;
 	}
 
-	private static boolean shouldMobBeUntracked(@NotNull ServerLevel level, BlockPos pos, UUID uuid) {
-		return shouldMobBeUntracked(level, pos, level.getEntity(uuid));
+	public void untrackEntity(@NotNull Level level, @NotNull Entity entity) {
+		UUID entityUUID = entity.getUUID();
+		this.markDirty();
+		this.data.currentMobs.remove(entityUUID);
+		if (this.data.currentApparitions.remove(entityUUID)) {
+			this.data.nextApparitionSpawnsAt = level.getGameTime() + 800L;
+		}
+	}
+
+	/**
+	 * Stops tracking every mob and apparition that should be untracked.
+	 * <p>
+	 * They are removed from the tracked sets before {@link CoffinBlock#onCoffinUntrack} runs, as that calls back into {@link #untrackEntity}.
+	 */
+	@VisibleForTesting
+	public void untrackInvalidEntities(@NotNull ServerLevel world, @NotNull BlockPos pos) {
+		List<Entity> untrackedEntities = new ArrayList<>();
+		removeInvalidEntities(world, pos, this.data.currentMobs, untrackedEntities);
+		if (removeInvalidEntities(world, pos, this.data.currentApparitions, untrackedEntities)) {
+			this.data.nextApparitionSpawnsAt = world.getGameTime() + 800L;
+		}
+		untrackedEntities.forEach(CoffinBlock::onCoffinUntrack);
+	}
+
+	private static boolean removeInvalidEntities(@NotNull ServerLevel world, BlockPos pos, @NotNull Set<UUID> entityUUIDs, List<Entity> untrackedEntities) {
+		return entityUUIDs.removeIf(uuid -> {
+			Entity entity = world.getEntity(uuid);
+			boolean shouldUntrack = shouldMobBeUntracked(world, pos, entity);
+			if (shouldUntrack && entity != null) {
+				untrackedEntities.add(entity);
+			}
+			return shouldUntrack;
+		});
 	}
 
-	private static boolean shouldMobBeUntracked(@NotNull ServerLevel level, BlockPos pos, Entity entity) {
+	public static boolean shouldMobBeUntracked(@NotNull Level level, BlockPos pos, Entity entity) {
 		return entity == null
 			|| !entity.level().dimension().equals(level.dimension())
 			|| entity.blockPosition().distSqr(pos) > (double)MAX_MOB_TRACKING_DISTANCE_SQR
@@ -477,9 +593,8 @@ public final class CoffinSpawner {
 		}
 	}
 
-	public static boolean isInCatacombsBounds(BlockPos pos, @NotNull StructureManager structureManager) {
-		Structure structure = structureManager.registryAccess().registryOrThrow(Registries.STRUCTURE).get(CatacombsGenerator.CATACOMBS_KEY);
-		return structure != null && structureManager.structureHasPieceAt(pos, structureManager.getStructureAt(pos, structure));
+	public static boolean isInCatacombsBounds(BlockPos pos, @NotNull ServerLevel level) {
+		return CatacombsBoundsIndex.get(level).isInCatacombs(level, pos);
 	}
 
 	@VisibleForTesting
@@ -2,9 +2,12 @@ package net.frozenblock.trailiertales.block.entity.coffin;
 
 import com.google.common.collect.Sets;
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -33,13 +36,34 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class CoffinSpawnerData {
+	/**
+	 * Stores a set of UUIDs as one flat int array, four ints per UUID, while still reading the older list of int arrays.
+	 */
+	private static final Codec<Set<UUID>> UUID_SET_CODEC = Codec.withAlternative(
+		Codec.INT_STREAM.comapFlatMap(
+			stream -> {
+				int[] ints = stream.toArray();
+				if (ints.length % 4 != 0) {
+					return DataResult.error(() -> "Invalid UUID set length: " + ints.length);
+				}
+				Set<UUID> uuids = new HashSet<>();
+				for (int i = 0; i < ints.length; i += 4) {
+					uuids.add(UUIDUtil.uuidFromIntArray(Arrays.copyOfRange(ints, i, i + 4)));
+				}
+				return DataResult.success(uuids);
+			},
+			uuids -> uuids.stream().flatMapToInt(uuid -> Arrays.stream(UUIDUtil.uuidToIntArray(uuid)))
+		),
+		UUIDUtil.CODEC_SET
+	);
 	public static MapCodec<CoffinSpawnerData> MAP_CODEC = RecordCodecBuilder.mapCodec(
 		instance -> instance.group(
 				SpawnData.LIST_CODEC.lenientOptionalFieldOf("spawn_potentials", SimpleWeightedRandomList.empty()).forGetter(data -> data.spawnPotentials),
-				Codec.INT.listOf().lenientOptionalFieldOf("souls_to_spawn", new IntArrayList()).forGetter(data -> data.soulsToSpawn),
-				UUIDUtil.CODEC_SET.lenientOptionalFieldOf("detected_players", Sets.newHashSet()).forGetter(data -> data.detectedPlayers),
-				UUIDUtil.CODEC_SET.lenientOptionalFieldOf("current_mobs", Sets.newHashSet()).forGetter(data -> data.currentMobs),
-				UUIDUtil.CODEC_SET.lenientOptionalFieldOf("current_apparitions", Sets.newHashSet()).forGetter(data -> data.currentApparitions),
+				Codec.LONG.listOf().lenientOptionalFieldOf("soul_spawn_times", new LongArrayList()).forGetter(data -> data.soulSpawnTimes),
+				Codec.INT.listOf().lenientOptionalFieldOf("souls_to_spawn", new IntArrayList()).forGetter(data -> data.legacySoulsToSpawn),
+				UUID_SET_CODEC.lenientOptionalFieldOf("detected_players", Sets.newHashSet()).forGetter(data -> data.detectedPlayers),
+				UUID_SET_CODEC.lenientOptionalFieldOf("current_mobs", Sets.newHashSet()).forGetter(data -> data.currentMobs),
+				UUID_SET_CODEC.lenientOptionalFieldOf("current_apparitions", Sets.newHashSet()).forGetter(data -> data.currentApparitions),
 				Codec.LONG.lenientOptionalFieldOf("power_cooldown_ends_at", 0L).forGetter(data -> data.powerCooldownEndsAt),
 				Codec.LONG.lenientOptionalFieldOf("next_mob_spawns_at", 0L).forGetter(data -> data.nextMobSpawnsAt),
 				Codec.intRange(0, Integer.MAX_VALUE).lenientOptionalFieldOf("total_mobs_spawned", 0).forGetter(data -> data.totalMobsSpawned),
@@ -53,7 +77,11 @@ public class CoffinSpawnerData {
 			.apply(instance, CoffinSpawnerData::new)
 	);
 
-	protected final IntArrayList soulsToSpawn = new IntArrayList();
+	/**
+	 * Absolute game times at which queued souls reach the coffin, sorted so the soonest is last.
+	 */
+	protected final LongArrayList soulSpawnTimes = new LongArrayList();
+	private final IntArrayList legacySoulsToSpawn = new IntArrayList();
 	protected final Set<UUID> detectedPlayers = new HashSet<>();
 	protected final Set<UUID> currentMobs = new HashSet<>();
 	protected final Set<UUID> currentApparitions = new HashSet<>();
@@ -67,10 +95,13 @@ public class CoffinSpawnerData {
 	protected boolean withinCatacombs;
 	protected int maxActiveLightLevel;
 	private SimpleWeightedRandomList<SpawnData> spawnPotentials;
+	@Nullable
+	private CoffinSpawnTemplate spawnTemplate;
 
 	public CoffinSpawnerData() {
 		this(
 			SimpleWeightedRandomList.empty(),
+			new LongArrayList(),
 			new IntArrayList(),
 			Collections.emptySet(),
 			Collections.emptySet(),
@@ -89,7 +120,8 @@ public class CoffinSpawnerData {
 
 	public CoffinSpawnerData(
 		SimpleWeightedRandomList<SpawnData> spawnPotentials,
-		List<Integer> soulsToSpawn,
+		List<Long> soulSpawnTimes,
+		List<Integer> legacySoulsToSpawn,
 		Set<UUID> detectedPlayers,
 		Set<UUID> currentMobs,
 		Set<UUID> currentApparitions,
@@ -104,7 +136,8 @@ public class CoffinSpawnerData {
 		int maxActiveLightLevel
 	) {
 		this.spawnPotentials = spawnPotentials;
-		this.soulsToSpawn.addAll(soulsToSpawn);
+		soulSpawnTimes.forEach(this::queueSoul);
+		this.legacySoulsToSpawn.addAll(legacySoulsToSpawn);
 		this.detectedPlayers.addAll(detectedPlayers);
 		this.currentMobs.addAll(currentMobs);
 		this.currentApparitions.addAll(currentApparitions);
@@ -128,8 +161,34 @@ public class CoffinSpawnerData {
 		this.currentApparitions.clear();
 	}
 
+	public void queueSoul(long spawnsAt) {
+		int index = 0;
+		int size = this.soulSpawnTimes.size();
+		while (index < size && this.soulSpawnTimes.getLong(index) > spawnsAt) {
+			index++;
+		}
+		this.soulSpawnTimes.add(index, spawnsAt);
+	}
+
+	public boolean hasQueuedSouls() {
+		return !this.soulSpawnTimes.isEmpty() || !this.legacySoulsToSpawn.isEmpty();
+	}
+
+	public boolean pollSoul(long gameTime) {
+		if (!this.legacySoulsToSpawn.isEmpty()) {
+			this.legacySoulsToSpawn.forEach(delay -> this.queueSoul(gameTime + delay));
+			this.legacySoulsToSpawn.clear();
+		}
+		int last = this.soulSpawnTimes.size() - 1;
+		if (last >= 0 && this.soulSpawnTimes.getLong(last) <= gameTime) {
+			this.soulSpawnTimes.removeLong(last);
+			return true;
+		}
+		return false;
+	}
+
 	public boolean hasMobToSpawn(Level level, RandomSource random, BlockPos pos) {
-		boolean hasNextSpawnData = this.getOrCreateNextSpawnData(level, random, pos).getEntityToSpawn().contains("id", 8);
+		boolean hasNextSpawnData = this.getOrCreateSpawnTemplate(level, random, pos).hasEntityId();
 		return hasNextSpawnData || !this.spawnPotentials().isEmpty();
 	}
 
@@ -190,7 +249,7 @@ public class CoffinSpawnerData {
 
 	public void tryDetectPlayers(@NotNull ServerLevel world, @NotNull BlockPos pos, CoffinSpawner coffinSpawner) {
 		boolean isSecondForPos = (pos.asLong() + world.getGameTime()) % 20L == 0L;
-		if (isSecondForPos) {
+		if (isSecondForPos && coffinSpawner.consumePlayersChanged()) {
 			List<UUID> list = coffinSpawner.getPlayerDetector()
 				.detect(world, coffinSpawner.getEntitySelector(), pos, coffinSpawner.getRequiredPlayerRange(), this.withinCatacombs);
 
@@ -208,6 +267,7 @@ public class CoffinSpawnerData {
 
 	public void setEntityId(EntityType<?> type, @Nullable Level world, RandomSource random, BlockPos pos) {
 		this.getOrCreateNextSpawnData(world, random, pos).getEntityToSpawn().putString("id", BuiltInRegistries.ENTITY_TYPE.getKey(type).toString());
+		this.spawnTemplate = null;
 	}
 
 	public SimpleWeightedRandomList<SpawnData> spawnPotentials() {
@@ -221,6 +281,16 @@ public class CoffinSpawnerData {
 		return this.nextSpawnData.get();
 	}
 
+	@NotNull CoffinSpawnTemplate getOrCreateSpawnTemplate(@Nullable Level world, RandomSource random, BlockPos pos) {
+		SpawnData spawnData = this.getOrCreateNextSpawnData(world, random, pos);
+		CoffinSpawnTemplate spawnTemplate = this.spawnTemplate;
+		if (spawnTemplate == null || spawnTemplate.spawnData() != spawnData) {
+			spawnTemplate = CoffinSpawnTemplate.compile(spawnData);
+			this.spawnTemplate = spawnTemplate;
+		}
+		return spawnTemplate;
+	}
+
 	protected void setNextSpawnData(@Nullable Level world, BlockPos pos, SpawnData spawnEntry) {
 		this.nextSpawnData = Optional.ofNullable(spawnEntry);
 	}
@@ -0,0 +1,5 @@
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+public interface CoffinLevelInterface {
+	CoffinRegistry trailierTales$getCoffinRegistry();
+}
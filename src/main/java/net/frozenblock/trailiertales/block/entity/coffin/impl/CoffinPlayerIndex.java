@@ -0,0 +1,66 @@
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Set;
+import java.util.UUID;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Buckets the players of a level by chunk section so coffins only re-run player detection
+ * after a detectable player moved, appeared, or disappeared inside their {@link CoffinSpawner#getRequiredPlayerRange()}.
+ */
+public final class CoffinPlayerIndex {
+	private static final long NOT_DETECTABLE = Long.MAX_VALUE;
+	private final CoffinSectionMap subscribers = new CoffinSectionMap();
+	private final Object2LongOpenHashMap<UUID> playerPositions = new Object2LongOpenHashMap<>();
+	private final Set<UUID> seenPlayers = new ObjectOpenHashSet<>();
+
+	public CoffinPlayerIndex() {
+		this.playerPositions.defaultReturnValue(NOT_DETECTABLE);
+	}
+
+	public void subscribe(@NotNull CoffinSpawner coffinSpawner, @NotNull BlockPos pos) {
+		this.subscribers.add(coffinSpawner, pos, coffinSpawner.getRequiredPlayerRange());
+		coffinSpawner.markPlayersChanged();
+	}
+
+	public void unsubscribe(@NotNull CoffinSpawner coffinSpawner, @NotNull BlockPos pos) {
+		this.subscribers.remove(coffinSpawner, pos, coffinSpawner.getRequiredPlayerRange());
+	}
+
+	public void tick(@NotNull ServerLevel level) {
+		this.seenPlayers.clear();
+		for (ServerPlayer player : level.players()) {
+			UUID uuid = player.getUUID();
+			this.seenPlayers.add(uuid);
+			long position = player.isCreative() || player.isSpectator() ? NOT_DETECTABLE : player.blockPosition().asLong();
+			long previousPosition = this.playerPositions.put(uuid, position);
+			if (previousPosition != position) {
+				this.markChanged(previousPosition);
+				this.markChanged(position);
+			}
+		}
+
+		ObjectIterator<Object2LongMap.Entry<UUID>> iterator = this.playerPositions.object2LongEntrySet().fastIterator();
+		while (iterator.hasNext()) {
+			Object2LongMap.Entry<UUID> entry = iterator.next();
+			if (!this.seenPlayers.contains(entry.getKey())) {
+				this.markChanged(entry.getLongValue());
+				iterator.remove();
+			}
+		}
+	}
+
+	private void markChanged(long position) {
+		if (position != NOT_DETECTABLE) {
+			this.subscribers.forEachAt(position, CoffinSpawner::markPlayersChanged);
+		}
+	}
+}
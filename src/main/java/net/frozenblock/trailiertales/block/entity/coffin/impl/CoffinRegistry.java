@@ -0,0 +1,146 @@
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tracks the loaded coffins of a {@link ServerLevel} by their {@link CoffinSpawner} UUID.
+ * <p>
+ * Tracked entities are released from their coffin through entity unload events rather than polling.
+ */
+public final class CoffinRegistry {
+	private final Map<UUID, CoffinBlockEntity> coffins = new Object2ObjectOpenHashMap<>();
+	private final CoffinPlayerIndex playerIndex = new CoffinPlayerIndex();
+	private final CoffinSectionMap spawnAreas = new CoffinSectionMap();
+	private final Set<CoffinBlockEntity> pendingUpdates = new ReferenceLinkedOpenHashSet<>();
+	private final List<CoffinBlockEntity> flushingUpdates = new ObjectArrayList<>();
+	private long suppressedUpdates;
+
+	public static void init() {
+		ServerEntityEvents.ENTITY_UNLOAD.register(CoffinRegistry::onEntityUnload);
+		ServerTickEvents.START_WORLD_TICK.register(level -> get(level).playerIndex.tick(level));
+		ServerTickEvents.END_WORLD_TICK.register(level -> get(level).flushUpdates());
+	}
+
+	@NotNull
+	public static CoffinRegistry get(@NotNull ServerLevel level) {
+		return ((CoffinLevelInterface) level).trailierTales$getCoffinRegistry();
+	}
+
+	public void add(@NotNull CoffinBlockEntity coffin) {
+		CoffinSpawner coffinSpawner = coffin.getCoffinSpawner();
+		CoffinBlockEntity previousCoffin = this.coffins.put(coffinSpawner.getUUID(), coffin);
+		if (previousCoffin != null) {
+			this.unsubscribe(previousCoffin.getCoffinSpawner(), previousCoffin.getBlockPos());
+		}
+		this.playerIndex.subscribe(coffinSpawner, coffin.getBlockPos());
+		this.spawnAreas.add(coffinSpawner, coffin.getBlockPos(), coffinSpawner.getMaxSpawnRange() + 1);
+		coffinSpawner.onRegistered();
+	}
+
+	public void remove(@NotNull CoffinBlockEntity coffin) {
+		CoffinSpawner coffinSpawner = coffin.getCoffinSpawner();
+		if (this.coffins.remove(coffinSpawner.getUUID(), coffin)) {
+			this.unsubscribe(coffinSpawner, coffin.getBlockPos());
+		}
+	}
+
+	private void unsubscribe(@NotNull CoffinSpawner coffinSpawner, @NotNull BlockPos pos) {
+		this.playerIndex.unsubscribe(coffinSpawner, pos);
+		this.spawnAreas.remove(coffinSpawner, pos, coffinSpawner.getMaxSpawnRange() + 1);
+	}
+
+	public void onBlockStateChange(@NotNull BlockPos pos) {
+		this.spawnAreas.forEachAt(pos.asLong(), coffinSpawner -> coffinSpawner.getSpawnPositions().invalidate());
+	}
+
+	/**
+	 * Queues a coffin to send its state change or block update at the end of the tick.
+	 * Repeated requests for the same coffin within a tick are counted as suppressed.
+	 */
+	public void queueUpdate(@NotNull CoffinBlockEntity coffin) {
+		if (!this.pendingUpdates.add(coffin)) {
+			this.suppressedUpdates++;
+		}
+	}
+
+	private void flushUpdates() {
+		if (this.pendingUpdates.isEmpty()) {
+			return;
+		}
+		this.flushingUpdates.addAll(this.pendingUpdates);
+		this.pendingUpdates.clear();
+		for (CoffinBlockEntity coffin : this.flushingUpdates) {
+			coffin.flushUpdates();
+		}
+		this.flushingUpdates.clear();
+	}
+
+	public long getSuppressedUpdates() {
+		return this.suppressedUpdates;
+	}
+
+	public Optional<CoffinSpawner> getSpawner(@NotNull UUID uuid) {
+		CoffinBlockEntity coffin = this.coffins.get(uuid);
+		if (coffin != null && !coffin.isRemoved()) {
+			CoffinSpawner coffinSpawner = coffin.getCoffinSpawner();
+			if (coffinSpawner.getUUID().equals(uuid)) {
+				return Optional.of(coffinSpawner);
+			}
+		}
+		return Optional.empty();
+	}
+
+	public int size() {
+		return this.coffins.size();
+	}
+
+	public int countDormant() {
+		int dormant = 0;
+		for (CoffinBlockEntity coffin : this.coffins.values()) {
+			if (coffin.getCoffinSpawner().isDormant()) {
+				dormant++;
+			}
+		}
+		return dormant;
+	}
+
+	public long countSpawnAttempts() {
+		long attempts = 0L;
+		for (CoffinBlockEntity coffin : this.coffins.values()) {
+			attempts += coffin.getCoffinSpawner().getSpawnPositions().getAttempts();
+		}
+		return attempts;
+	}
+
+	public long countSpawnSuccesses() {
+		long successes = 0L;
+		for (CoffinBlockEntity coffin : this.coffins.values()) {
+			successes += coffin.getCoffinSpawner().getSpawnPositions().getSuccesses();
+		}
+		return successes;
+	}
+
+	private static void onEntityUnload(@NotNull Entity entity, @NotNull ServerLevel level) {
+		if (entity instanceof EntityCoffinInterface entityInterface) {
+			EntityCoffinData entityCoffinData = entityInterface.trailierTales$getCoffinData();
+			if (entityCoffinData != null) {
+				get(level).getSpawner(entityCoffinData.getCoffinUUID()).ifPresent(coffinSpawner -> coffinSpawner.untrackEntity(level, entity));
+			}
+		}
+	}
+}
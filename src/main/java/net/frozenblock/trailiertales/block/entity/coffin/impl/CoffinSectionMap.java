@@ -0,0 +1,54 @@
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Maps chunk sections to the coffins whose range covers them.
+ */
+public final class CoffinSectionMap {
+	private final Long2ObjectOpenHashMap<Set<CoffinSpawner>> sections = new Long2ObjectOpenHashMap<>();
+
+	public void add(@NotNull CoffinSpawner coffinSpawner, @NotNull BlockPos pos, int range) {
+		for (int x = SectionPos.blockToSectionCoord(pos.getX() - range); x <= SectionPos.blockToSectionCoord(pos.getX() + range); x++) {
+			for (int y = SectionPos.blockToSectionCoord(pos.getY() - range); y <= SectionPos.blockToSectionCoord(pos.getY() + range); y++) {
+				for (int z = SectionPos.blockToSectionCoord(pos.getZ() - range); z <= SectionPos.blockToSectionCoord(pos.getZ() + range); z++) {
+					this.sections.computeIfAbsent(SectionPos.asLong(x, y, z), section -> new ReferenceOpenHashSet<>()).add(coffinSpawner);
+				}
+			}
+		}
+	}
+
+	public void remove(@NotNull CoffinSpawner coffinSpawner, @NotNull BlockPos pos, int range) {
+		for (int x = SectionPos.blockToSectionCoord(pos.getX() - range); x <= SectionPos.blockToSectionCoord(pos.getX() + range); x++) {
+			for (int y = SectionPos.blockToSectionCoord(pos.getY() - range); y <= SectionPos.blockToSectionCoord(pos.getY() + range); y++) {
+				for (int z = SectionPos.blockToSectionCoord(pos.getZ() - range); z <= SectionPos.blockToSectionCoord(pos.getZ() + range); z++) {
+					long section = SectionPos.asLong(x, y, z);
+					Set<CoffinSpawner> coffinSpawners = this.sections.get(section);
+					if (coffinSpawners != null && coffinSpawners.remove(coffinSpawner) && coffinSpawners.isEmpty()) {
+						this.sections.remove(section);
+					}
+				}
+			}
+		}
+	}
+
+	public void forEachAt(long blockPos, Consumer<CoffinSpawner> consumer) {
+		Set<CoffinSpawner> coffinSpawners = this.sections.get(
+			SectionPos.asLong(
+				SectionPos.blockToSectionCoord(BlockPos.getX(blockPos)),
+				SectionPos.blockToSectionCoord(BlockPos.getY(blockPos)),
+				SectionPos.blockToSectionCoord(BlockPos.getZ(blockPos))
+			)
+		);
+		if (coffinSpawners != null) {
+			coffinSpawners.forEach(consumer);
+		}
+	}
+}
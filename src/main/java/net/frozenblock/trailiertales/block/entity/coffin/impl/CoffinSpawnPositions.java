@@ -0,0 +1,55 @@
+package net.frozenblock.trailiertales.block.entity.coffin.impl;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.world.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers the block positions around a coffin that are filled by a full collision block,
+ * so later spawn attempts can reject them before doing any world queries.
+ * <p>
+ * Only results that hold for every candidate inside the block are kept; collision with entities, partial shapes,
+ * and line of sight depend on where in the block the candidate lands and are checked every time.
+ * Cleared whenever a block changes within spawn range, or the mob being spawned changes.
+ */
+public final class CoffinSpawnPositions {
+	private final LongOpenHashSet blockedPositions = new LongOpenHashSet();
+	@Nullable
+	private EntityType<?> entityType;
+	private long attempts;
+	private long successes;
+
+	public boolean isBlocked(@NotNull EntityType<?> entityType, long pos) {
+		if (this.entityType != entityType) {
+			this.entityType = entityType;
+			this.blockedPositions.clear();
+			return false;
+		}
+		return this.blockedPositions.contains(pos);
+	}
+
+	public void block(long pos) {
+		this.blockedPositions.add(pos);
+	}
+
+	public void invalidate() {
+		this.blockedPositions.clear();
+	}
+
+	public void countAttempt() {
+		this.attempts++;
+	}
+
+	public void countSuccess() {
+		this.successes++;
+	}
+
+	public long getAttempts() {
+		return this.attempts;
+	}
+
+	public long getSuccesses() {
+		return this.successes;
+	}
+}
@@ -3,10 +3,10 @@ package net.frozenblock.trailiertales.block.entity.coffin.impl;
 import java.util.Optional;
 import java.util.UUID;
 import net.frozenblock.trailiertales.block.CoffinBlock;
-import net.frozenblock.trailiertales.block.entity.coffin.CoffinBlockEntity;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
 import org.jetbrains.annotations.NotNull;
@@ -34,18 +34,14 @@ public class EntityCoffinData {
 			return;
 		}
 
-		if (this.getSpawner(level).isEmpty()) {
+		if (this.getSpawner(level).isEmpty() || CoffinSpawner.shouldMobBeUntracked(level, this.getPos(), entity)) {
 			CoffinBlock.onCoffinUntrack(entity);
 		}
 	}
 
 	public Optional<CoffinSpawner> getSpawner(@NotNull Level level) {
-		if (level.isLoaded(this.getPos())) {
-			if (level.getBlockEntity(this.getPos()) instanceof CoffinBlockEntity coffinBlockEntity) {
-				if (coffinBlockEntity.getCoffinSpawner().getUUID().equals(this.getCoffinUUID())) {
-					return Optional.of(coffinBlockEntity.getCoffinSpawner());
-				}
-			}
+		if (level instanceof ServerLevel serverLevel) {
+			return CoffinRegistry.get(serverLevel).getSpawner(this.getCoffinUUID());
 		}
 		return Optional.empty();
 	}
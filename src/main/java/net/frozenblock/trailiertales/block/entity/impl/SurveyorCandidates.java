@@ -0,0 +1,77 @@
+package net.frozenblock.trailiertales.block.entity.impl;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.world.entity.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reusable buffers holding the players in a surveyor's view, sorted by the squared distance of their closest visible point.
+ */
+public final class SurveyorCandidates {
+	private final List<Player> players = new ObjectArrayList<>();
+	private Player[] sortedPlayers = new Player[8];
+	private double[] distancesSqr = new double[8];
+	private double[] points = new double[24];
+	private int size;
+
+	/**
+	 * @return the list the surveyor's entity query is collected into.
+	 */
+	public @NotNull List<Player> getPlayers() {
+		return this.players;
+	}
+
+	public void clear() {
+		this.players.clear();
+		Arrays.fill(this.sortedPlayers, 0, this.size, null);
+		this.size = 0;
+	}
+
+	public void add(@NotNull Player player, double x, double y, double z, double distanceSqr) {
+		if (this.size == this.sortedPlayers.length) {
+			int capacity = this.size * 2;
+			this.sortedPlayers = Arrays.copyOf(this.sortedPlayers, capacity);
+			this.distancesSqr = Arrays.copyOf(this.distancesSqr, capacity);
+			this.points = Arrays.copyOf(this.points, capacity * 3);
+		}
+
+		int index = this.size++;
+		while (index > 0 && this.distancesSqr[index - 1] > distanceSqr) {
+			this.sortedPlayers[index] = this.sortedPlayers[index - 1];
+			this.distancesSqr[index] = this.distancesSqr[index - 1];
+			System.arraycopy(this.points, (index - 1) * 3, this.points, index * 3, 3);
+			index--;
+		}
+		this.sortedPlayers[index] = player;
+		this.distancesSqr[index] = distanceSqr;
+		this.points[index * 3] = x;
+		this.points[index * 3 + 1] = y;
+		this.points[index * 3 + 2] = z;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	public @NotNull Player getPlayer(int index) {
+		return this.sortedPlayers[index];
+	}
+
+	public double getDistanceSqr(int index) {
+		return this.distancesSqr[index];
+	}
+
+	public double getX(int index) {
+		return this.points[index * 3];
+	}
+
+	public double getY(int index) {
+		return this.points[index * 3 + 1];
+	}
+
+	public double getZ(int index) {
+		return this.points[index * 3 + 2];
+	}
+}
@@ -0,0 +1,211 @@
+package net.frozenblock.trailiertales.block.entity.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.frozenblock.trailiertales.block.entity.SurveyorBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Buckets the loaded {@link SurveyorBlockEntity}s of a {@link ServerLevel} by the chunk sections their view volume covers.
+ * <p>
+ * A surveyor is only evaluated after a player moved into, out of, or within its view volume, or after a block inside it changed.
+ * While a player stays inside the volume the surveyor keeps being evaluated every {@link #EVALUATION_INTERVAL} ticks,
+ * so anything else moving through its line of sight is still picked up.
+ */
+public final class SurveyorIndex {
+	public static final int EVALUATION_INTERVAL = 3;
+	private final Long2ObjectOpenHashMap<List<SurveyorBlockEntity>> sections = new Long2ObjectOpenHashMap<>();
+	private final Map<SurveyorBlockEntity, Entry> surveyors = new Reference2ObjectOpenHashMap<>();
+	private final Set<SurveyorBlockEntity> pending = new ReferenceLinkedOpenHashSet<>();
+	private final List<SurveyorBlockEntity> evaluating = new ObjectArrayList<>();
+	private final Set<SurveyorBlockEntity> pendingOutputs = new ReferenceLinkedOpenHashSet<>();
+	private final List<SurveyorBlockEntity> flushingOutputs = new ObjectArrayList<>();
+	private final Map<UUID, PlayerSnapshot> players = new Object2ObjectOpenHashMap<>();
+	private final Set<UUID> seenPlayers = new ObjectOpenHashSet<>();
+	private final SurveyorCandidates candidates = new SurveyorCandidates();
+
+	public static void init() {
+		ServerTickEvents.START_WORLD_TICK.register(level -> get(level).tick(level));
+		ServerTickEvents.END_WORLD_TICK.register(level -> get(level).flushOutputs());
+	}
+
+	@NotNull
+	public static SurveyorIndex get(@NotNull ServerLevel level) {
+		return ((SurveyorLevelInterface) level).trailierTales$getSurveyorIndex();
+	}
+
+	public void add(@NotNull SurveyorBlockEntity surveyor) {
+		this.remove(surveyor);
+		AABB viewBox = surveyor.getDetectionBox();
+		this.surveyors.put(surveyor, new Entry(viewBox));
+		forEachSection(viewBox, section -> this.sections.computeIfAbsent(section, key -> new ObjectArrayList<>()).add(surveyor));
+		this.pending.add(surveyor);
+	}
+
+	public void remove(@NotNull SurveyorBlockEntity surveyor) {
+		Entry entry = this.surveyors.remove(surveyor);
+		if (entry != null) {
+			forEachSection(entry.viewBox, section -> {
+				List<SurveyorBlockEntity> sectionSurveyors = this.sections.get(section);
+				if (sectionSurveyors != null) {
+					sectionSurveyors.remove(surveyor);
+					if (sectionSurveyors.isEmpty()) {
+						this.sections.remove(section);
+					}
+				}
+			});
+			this.pending.remove(surveyor);
+		}
+		this.pendingOutputs.remove(surveyor);
+	}
+
+	public void onBlockStateChange(@NotNull BlockPos pos) {
+		List<SurveyorBlockEntity> sectionSurveyors = this.sections.get(SectionPos.asLong(pos));
+		if (sectionSurveyors != null) {
+			for (SurveyorBlockEntity surveyor : sectionSurveyors) {
+				if (this.surveyors.get(surveyor).viewBox.contains(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D)) {
+					surveyor.getOcclusionProfile().invalidate();
+					this.pending.add(surveyor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Queues a surveyor to notify its neighbours of its new output at the end of the tick.
+	 */
+	public void queueOutputUpdate(@NotNull SurveyorBlockEntity surveyor) {
+		this.pendingOutputs.add(surveyor);
+	}
+
+	private void flushOutputs() {
+		if (this.pendingOutputs.isEmpty()) {
+			return;
+		}
+		this.flushingOutputs.addAll(this.pendingOutputs);
+		this.pendingOutputs.clear();
+		for (SurveyorBlockEntity surveyor : this.flushingOutputs) {
+			surveyor.flushOutputUpdate();
+		}
+		this.flushingOutputs.clear();
+	}
+
+	private void tick(@NotNull ServerLevel level) {
+		if (this.surveyors.isEmpty()) {
+			this.players.clear();
+			return;
+		}
+		this.trackPlayers(level);
+		if (this.pending.isEmpty()) {
+			return;
+		}
+
+		long gameTime = level.getGameTime();
+		this.evaluating.addAll(this.pending);
+		for (SurveyorBlockEntity surveyor : this.evaluating) {
+			Entry entry = this.surveyors.get(surveyor);
+			if (entry != null && entry.nextEvaluation <= gameTime) {
+				this.pending.remove(surveyor);
+				entry.nextEvaluation = gameTime + EVALUATION_INTERVAL;
+				if (surveyor.evaluate(level, this.candidates) && this.surveyors.containsKey(surveyor)) {
+					this.pending.add(surveyor);
+				}
+			}
+		}
+		this.evaluating.clear();
+	}
+
+	private void trackPlayers(@NotNull ServerLevel level) {
+		this.seenPlayers.clear();
+		for (ServerPlayer player : level.players()) {
+			UUID uuid = player.getUUID();
+			this.seenPlayers.add(uuid);
+			AABB box = player.getBoundingBox();
+			boolean spectator = player.isSpectator();
+			PlayerSnapshot snapshot = this.players.get(uuid);
+			if (snapshot == null) {
+				this.players.put(uuid, new PlayerSnapshot(box, spectator));
+				this.markIntersecting(box);
+			} else if (snapshot.spectator != spectator || !snapshot.box.equals(box)) {
+				this.markIntersecting(snapshot.box);
+				this.markIntersecting(box);
+				snapshot.box = box;
+				snapshot.spectator = spectator;
+			}
+		}
+
+		Iterator<Map.Entry<UUID, PlayerSnapshot>> iterator = this.players.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<UUID, PlayerSnapshot> entry = iterator.next();
+			if (!this.seenPlayers.contains(entry.getKey())) {
+				this.markIntersecting(entry.getValue().box);
+				iterator.remove();
+			}
+		}
+	}
+
+	private void markIntersecting(@NotNull AABB box) {
+		forEachSection(box, section -> {
+			List<SurveyorBlockEntity> sectionSurveyors = this.sections.get(section);
+			if (sectionSurveyors != null) {
+				for (SurveyorBlockEntity surveyor : sectionSurveyors) {
+					if (this.surveyors.get(surveyor).viewBox.intersects(box)) {
+						this.pending.add(surveyor);
+					}
+				}
+			}
+		});
+	}
+
+	private static void forEachSection(@NotNull AABB box, @NotNull LongConsumer consumer) {
+		int minX = SectionPos.blockToSectionCoord(Mth.floor(box.minX));
+		int minY = SectionPos.blockToSectionCoord(Mth.floor(box.minY));
+		int minZ = SectionPos.blockToSectionCoord(Mth.floor(box.minZ));
+		int maxX = SectionPos.blockToSectionCoord(Mth.floor(box.maxX));
+		int maxY = SectionPos.blockToSectionCoord(Mth.floor(box.maxY));
+		int maxZ = SectionPos.blockToSectionCoord(Mth.floor(box.maxZ));
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					consumer.accept(SectionPos.asLong(x, y, z));
+				}
+			}
+		}
+	}
+
+	private static final class Entry {
+		private final AABB viewBox;
+		private long nextEvaluation;
+
+		private Entry(AABB viewBox) {
+			this.viewBox = viewBox;
+		}
+	}
+
+	private static final class PlayerSnapshot {
+		private AABB box;
+		private boolean spectator;
+
+		private PlayerSnapshot(AABB box, boolean spectator) {
+			this.box = box;
+			this.spectator = spectator;
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package net.frozenblock.trailiertales.block.entity.impl;
+
+public interface SurveyorLevelInterface {
+	SurveyorIndex trailierTales$getSurveyorIndex();
+}
@@ -0,0 +1,123 @@
+package net.frozenblock.trailiertales.block.entity.impl;
+
+import java.util.function.Predicate;
+import net.frozenblock.trailiertales.block.entity.SurveyorBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.projectile.ProjectileUtil;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches which blocks along a {@link SurveyorBlockEntity}'s view axis can block its line of sight.
+ * <p>
+ * A surveyor only sees down a one block wide column, and the line from a point inside that column back to the surveyor never leaves it.
+ * Points behind the first full block are rejected without a raycast, and points in front of the first partial block
+ * only have their line of sight checked against entities.
+ */
+public final class SurveyorOcclusionProfile {
+	public static final int LENGTH = 16;
+	public static final Predicate<Entity> OCCLUDING_ENTITIES = EntitySelector.NO_SPECTATORS.and(entity -> !entity.isInvisible());
+	private static final int UNOCCLUDED = LENGTH + 1;
+	private int firstPartial = UNOCCLUDED;
+	private int firstFull = UNOCCLUDED;
+	private boolean dirty = true;
+
+	public void invalidate() {
+		this.dirty = true;
+	}
+
+	public void update(@NotNull BlockGetter level, @NotNull BlockPos pos, @NotNull Direction facing) {
+		if (!this.dirty) {
+			return;
+		}
+		this.dirty = false;
+		this.firstPartial = UNOCCLUDED;
+		this.firstFull = UNOCCLUDED;
+
+		BlockPos.MutableBlockPos mutable = pos.mutable();
+		for (int distance = 1; distance <= LENGTH; distance++) {
+			mutable.move(facing);
+			BlockState state = level.getBlockState(mutable);
+			if (state.isCollisionShapeFullBlock(level, mutable)) {
+				this.firstFull = distance;
+				this.firstPartial = Math.min(this.firstPartial, distance);
+				return;
+			}
+			if (this.firstPartial == UNOCCLUDED && !state.getCollisionShape(level, mutable).isEmpty()) {
+				this.firstPartial = distance;
+			}
+		}
+	}
+
+	/**
+	 * @return whether the block directly in front of the surveyor covers its eye.
+	 */
+	public boolean isBlocked() {
+		return this.firstFull == 1;
+	}
+
+	public boolean isVisible(@NotNull Level level, @NotNull BlockPos pos, @NotNull Direction facing, double x, double y, double z, @NotNull Entity viewed) {
+		int distance = getDistance(pos, facing, x, y, z);
+		if (distance == -1 || distance >= this.firstPartial) {
+			return distance < this.firstFull && raycast(level, pos, new Vec3(x, y, z), viewed);
+		}
+
+		double deltaX = pos.getX() + 0.5D - x;
+		double deltaY = pos.getY() + 0.5D - y;
+		double deltaZ = pos.getZ() + 0.5D - z;
+		double axialDistance = Math.abs(deltaX * facing.getStepX() + deltaY * facing.getStepY() + deltaZ * facing.getStepZ());
+		double faceScale = (axialDistance - 0.5D) / axialDistance;
+		return ProjectileUtil.getEntityHitResult(
+			level,
+			viewed,
+			new Vec3(x, y, z),
+			new Vec3(x + deltaX * faceScale, y + deltaY * faceScale, z + deltaZ * faceScale),
+			viewed.getBoundingBox().expandTowards(deltaX, deltaY, deltaZ).inflate(1D),
+			OCCLUDING_ENTITIES,
+			0F
+		) == null;
+	}
+
+	/**
+	 * Checks the line of sight from a point back to the surveyor against the world, without using the profile.
+	 */
+	public static boolean raycast(@NotNull Level level, @NotNull BlockPos pos, @NotNull Vec3 point, @NotNull Entity viewed) {
+		HitResult hitResult = ProjectileUtil.getHitResult(
+			point,
+			viewed,
+			OCCLUDING_ENTITIES,
+			Vec3.atCenterOf(pos).subtract(point),
+			level,
+			0F,
+			ClipContext.Block.COLLIDER
+		);
+		return hitResult.getType() == HitResult.Type.BLOCK && ((BlockHitResult) hitResult).getBlockPos().equals(pos);
+	}
+
+	/**
+	 * @return how many blocks in front of the surveyor the point is, or -1 if it is outside the view column.
+	 */
+	private static int getDistance(@NotNull BlockPos pos, @NotNull Direction facing, double pointX, double pointY, double pointZ) {
+		int x = Mth.floor(pointX) - pos.getX();
+		int y = Mth.floor(pointY) - pos.getY();
+		int z = Mth.floor(pointZ) - pos.getZ();
+		int distance = x * facing.getStepX() + y * facing.getStepY() + z * facing.getStepZ();
+		if (distance < 1 || distance > LENGTH) {
+			return -1;
+		}
+		if (x != distance * facing.getStepX() || y != distance * facing.getStepY() || z != distance * facing.getStepZ()) {
+			return -1;
+		}
+		return distance;
+	}
+}
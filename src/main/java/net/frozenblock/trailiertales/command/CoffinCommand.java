@@ -0,0 +1,46 @@
+package net.frozenblock.trailiertales.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinRegistry;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+public class CoffinCommand {
+
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(
+			Commands.literal("coffins")
+				.requires(source -> source.hasPermission(2))
+				.then(Commands.literal("stats").executes(context -> stats(context.getSource())))
+		);
+	}
+
+	private static int stats(@NotNull CommandSourceStack source) {
+		int total = 0;
+		for (ServerLevel level : source.getServer().getAllLevels()) {
+			CoffinRegistry coffinRegistry = CoffinRegistry.get(level);
+			int coffins = coffinRegistry.size();
+			int dormant = coffinRegistry.countDormant();
+			long spawnAttempts = coffinRegistry.countSpawnAttempts();
+			long spawnSuccesses = coffinRegistry.countSpawnSuccesses();
+			long suppressedUpdates = coffinRegistry.getSuppressedUpdates();
+			source.sendSuccess(
+				() -> Component.translatable(
+					"commands.trailiertales.coffins.stats",
+					level.dimension().location().toString(),
+					coffins - dormant,
+					dormant,
+					spawnSuccesses,
+					spawnAttempts,
+					suppressedUpdates
+				),
+				false
+			);
+			total += coffins;
+		}
+		return total;
+	}
+}
@@ -3,11 +3,13 @@ package net.frozenblock.trailiertales.entity;
 import com.mojang.serialization.Dynamic;
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
 import net.frozenblock.trailiertales.TrailierConstants;
 import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
 import net.frozenblock.trailiertales.block.entity.coffin.impl.EntityCoffinInterface;
 import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAi;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionIndex;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionWalkValueCache;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
 import net.frozenblock.trailiertales.particle.options.GlowingDustColorTransitionOptions;
 import net.frozenblock.trailiertales.registry.RegisterMemoryModuleTypes;
 import net.frozenblock.trailiertales.registry.RegisterSounds;
@@ -58,7 +60,6 @@ import net.minecraft.world.item.ProjectileItem;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.ServerLevelAccessor;
-import net.minecraft.world.level.lighting.LightEngine;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -79,8 +80,10 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	private static final EntityDataAccessor<Float> OUTER_TRANSPARENCY = SynchedEntityData.defineId(Apparition.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> AID_ANIM_PROGRESS = SynchedEntityData.defineId(Apparition.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> POLTERGEIST_ANIM_PROGRESS = SynchedEntityData.defineId(Apparition.class, EntityDataSerializers.FLOAT);
+	private static final float SYNCED_FLOAT_THRESHOLD = 1F / 64F;
 
 	private final SimpleContainer inventory = new SimpleContainer(1);
+	private final ApparitionLightSampler lightSampler = new ApparitionLightSampler();
 	private float transparency;
 	private float outerTransparency;
 	public int hiddenTicks;
@@ -191,19 +194,29 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	@Override
 	public float getWalkTargetValue(BlockPos pos) {
 		Level level = this.level();
-		boolean isPosSafe = !level.getBlockState(pos).isCollisionShapeFullBlock(level, pos);
-		float successValue = 20F - level.getRawBrightness(pos, 0);
+		if (level instanceof ServerLevel serverLevel) {
+			boolean coffinBound = this instanceof EntityCoffinInterface entityCoffinInterface && entityCoffinInterface.trailierTales$getCoffinData() != null;
+			int sample = ApparitionWalkValueCache.get(serverLevel).sample(serverLevel, pos, coffinBound);
+			return getWalkTargetValue(
+				!ApparitionWalkValueCache.isFullBlock(sample),
+				ApparitionWalkValueCache.getBrightness(sample),
+				coffinBound,
+				ApparitionWalkValueCache.isInCatacombs(sample)
+			);
+		}
+		return getWalkTargetValue(!level.getBlockState(pos).isCollisionShapeFullBlock(level, pos), level.getRawBrightness(pos, 0), false, false);
+	}
+
+	private static float getWalkTargetValue(boolean isPosSafe, int brightness, boolean coffinBound, boolean withinCatacombs) {
+		float successValue = 20F - brightness;
 		float punishmentValue = -1F;
 
-		if (this instanceof EntityCoffinInterface entityCoffinInterface) {
-			if (entityCoffinInterface.trailierTales$getCoffinData() != null && level instanceof ServerLevel serverLevel) {
-				boolean withinCatacombs = CoffinSpawner.isInCatacombsBounds(pos, serverLevel.structureManager());
-				if (withinCatacombs) {
-					punishmentValue = 0F;
-				}
-				isPosSafe = isPosSafe && withinCatacombs;
-				successValue *= 2F;
+		if (coffinBound) {
+			if (withinCatacombs) {
+				punishmentValue = 0F;
 			}
+			isPosSafe = isPosSafe && withinCatacombs;
+			successValue *= 2F;
 		}
 
 		return isPosSafe ? successValue : punishmentValue;
@@ -285,7 +298,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	}
 
 	public void setTransparency(float transparency) {
-		this.entityData.set(TRANSPARENCY, transparency);
+		this.setSyncedFloat(TRANSPARENCY, transparency);
 	}
 
 	public float getOuterTransparency() {
@@ -293,7 +306,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	}
 
 	public void setOuterTransparency(float transparency) {
-		this.entityData.set(OUTER_TRANSPARENCY, transparency);
+		this.setSyncedFloat(OUTER_TRANSPARENCY, transparency);
 	}
 
 	public float getAidAnimProgress() {
@@ -301,7 +314,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	}
 
 	public void setAidAnimProgress(float progress) {
-		this.entityData.set(AID_ANIM_PROGRESS, progress);
+		this.setSyncedFloat(AID_ANIM_PROGRESS, progress);
 	}
 
 	public float getPoltergeistAnimProgress() {
@@ -309,7 +322,17 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	}
 
 	public void setPoltergeistAnimProgress(float progress) {
-		this.entityData.set(POLTERGEIST_ANIM_PROGRESS, progress);
+		this.setSyncedFloat(POLTERGEIST_ANIM_PROGRESS, progress);
+	}
+
+	/**
+	 * Only marks the value for syncing once it has moved far enough to be visible, or has settled on 0 or 1.
+	 */
+	private void setSyncedFloat(EntityDataAccessor<Float> accessor, float value) {
+		float syncedValue = this.entityData.get(accessor);
+		if (Math.abs(value - syncedValue) >= SYNCED_FLOAT_THRESHOLD || (value != syncedValue && (value == 0F || value == 1F))) {
+			this.entityData.set(accessor, value);
+		}
 	}
 
 	public float getItemYRot(float partialTick) {
@@ -351,13 +374,19 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 		super.tick();
 		this.noPhysics = false;
 		this.setNoGravity(true);
-		if (!this.level().isClientSide) {
+		if (this.level() instanceof ServerLevel serverLevel) {
+			if (!this.isRemoved()) {
+				ApparitionIndex.get(serverLevel).update(this);
+			}
 			this.tickTransparency();
 			if (this.hiddenTicks <= 0) {
 				this.spawnParticles(this.random.nextInt(0, 3), APPARITION_TO_WHITE);
 			}
 			this.hiddenTicks = (Math.max(0, this.hiddenTicks - 1));
-			this.setVisibleItem(this.inventory.getItems().getFirst().copy());
+			ItemStack heldItem = this.inventory.getItems().getFirst();
+			if (!ItemStack.matches(heldItem, this.getVisibleItem())) {
+				this.setVisibleItem(heldItem.copy());
+			}
 		} else {
 			this.prevTransparency = this.transparency;
 			this.prevOuterTransparency = this.outerTransparency;
@@ -427,41 +456,33 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 	}
 
 	public void tickTransparency() {
-		AtomicReference<Float> transparency = new AtomicReference<>(0F);
-		AtomicReference<Float> outerTransparency = new AtomicReference<>(0F);
-		BlockPos pos = this.blockPosition();
+		float transparency;
+		float outerTransparency;
 		if (this.isAiding()) {
-			transparency.set(1F);
-			outerTransparency.set(1.5F);
+			transparency = 1F;
+			outerTransparency = 1.5F;
+		} else if (this.hiddenTicks > 0) {
+			transparency = 0F;
+			outerTransparency = 0F;
 		} else {
-			if (this.hiddenTicks > 0) {
-				transparency.set(0F);
-				outerTransparency.set(0F);
-			} else {
-				BlockPos.betweenClosed(pos.offset(-1, -1, -1), pos.offset(1, 1, 1)).forEach(blockPos -> {
-						if (transparency.get() < 1) {
-							transparency.set(Math.max(transparency.get(), this.level().getRawBrightness(blockPos, 0) / (float) LightEngine.MAX_LEVEL));
-							outerTransparency.set(transparency.get() * 0.5F);
-						}
-					}
-				);
-			}
+			transparency = this.lightSampler.sampleMaxBrightness(this.level(), this.blockPosition());
+			outerTransparency = transparency * 0.5F;
 		}
-		this.transparency += (transparency.get() - this.transparency) * (this.hiddenTicks > 0 ? 0.9F : 0.3F);
-		if (this.transparency < 0.025F && this.transparency != 0F && transparency.get() == 0F) {
+		this.transparency += (transparency - this.transparency) * (this.hiddenTicks > 0 ? 0.9F : 0.3F);
+		if (this.transparency < 0.025F && this.transparency != 0F && transparency == 0F) {
 			this.transparency = 0F;
 			if (this.hiddenTicks > 0) {
 				this.spawnParticles(this.random.nextInt(3, 7), ParticleTypes.POOF);
 			}
-		} else if (this.transparency > 0.975F && transparency.get() == 1F) {
+		} else if (this.transparency > 0.975F && transparency == 1F) {
 			this.transparency = 1F;
 		}
 		this.setTransparency(this.transparency);
 
-		this.outerTransparency += (outerTransparency.get() - this.outerTransparency) * (this.hiddenTicks > 0 ? 0.9F : 0.3F);
-		if (this.outerTransparency < 0.025F && this.outerTransparency != 0F && outerTransparency.get() == 0F) {
+		this.outerTransparency += (outerTransparency - this.outerTransparency) * (this.hiddenTicks > 0 ? 0.9F : 0.3F);
+		if (this.outerTransparency < 0.025F && this.outerTransparency != 0F && outerTransparency == 0F) {
 			this.outerTransparency = 0F;
-		} else if (this.outerTransparency > 1.975F && outerTransparency.get() == 2F) {
+		} else if (this.outerTransparency > 1.975F && outerTransparency == 2F) {
 			this.outerTransparency = 2F;
 		}
 		this.setOuterTransparency(this.outerTransparency);
@@ -578,7 +599,7 @@ public class Apparition extends Monster implements InventoryCarrier, RangedAttac
 
 	public void spawnParticles(int count, ParticleOptions particleOptions) {
 		if (this.level() instanceof ServerLevel level) {
-			level.sendParticles(
+			ParticleBatcher.get(level).sendCosmeticParticles(
 				particleOptions,
 				this.getX(),
 				this.getY(0.6666666666666666D),
@@ -0,0 +1,85 @@
+package net.frozenblock.trailiertales.entity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.chunk.DataLayer;
+import net.minecraft.world.level.lighting.LayerLightEventListener;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.lighting.LightEngine;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Samples the brightest raw light level in the 3x3x3 area around a block, and reuses the result
+ * until the block changes or the light data of a section the area touches changes.
+ * <p>
+ * The light engine copies a section's {@link DataLayer} before writing to it,
+ * so a different layer instance means the section's light has changed since it was sampled.
+ */
+final class ApparitionLightSampler {
+	private static final long NO_POS = Long.MAX_VALUE;
+	// Up to 2 sections per axis, each with a block and a sky layer.
+	private final DataLayer[] layers = new DataLayer[16];
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+	private long cachedPos = NO_POS;
+	private float cachedBrightness;
+
+	/**
+	 * @return the brightest raw light level around {@code pos}, from 0 to 1.
+	 */
+	public float sampleMaxBrightness(@NotNull Level level, @NotNull BlockPos pos) {
+		long posKey = pos.asLong();
+		if (posKey == this.cachedPos && this.visitLayers(level, pos, false)) {
+			return this.cachedBrightness;
+		}
+
+		int maxBrightness = 0;
+		for (int x = -1; x <= 1 && maxBrightness < LightEngine.MAX_LEVEL; x++) {
+			for (int y = -1; y <= 1 && maxBrightness < LightEngine.MAX_LEVEL; y++) {
+				for (int z = -1; z <= 1 && maxBrightness < LightEngine.MAX_LEVEL; z++) {
+					this.mutablePos.setWithOffset(pos, x, y, z);
+					maxBrightness = Math.max(maxBrightness, level.getRawBrightness(this.mutablePos, 0));
+				}
+			}
+		}
+
+		this.cachedBrightness = maxBrightness / (float) LightEngine.MAX_LEVEL;
+		this.cachedPos = this.visitLayers(level, pos, true) ? posKey : NO_POS;
+		return this.cachedBrightness;
+	}
+
+	/**
+	 * Compares the light layers around {@code pos} against the stored ones, or stores them if {@code capture} is set.
+	 *
+	 * @return whether the layers match, or for a capture, whether the area can be cached at all.
+	 */
+	private boolean visitLayers(@NotNull Level level, @NotNull BlockPos pos, boolean capture) {
+		LevelLightEngine lightEngine = level.getLightEngine();
+		LayerLightEventListener blockLight = lightEngine.getLayerListener(LightLayer.BLOCK);
+		LayerLightEventListener skyLight = lightEngine.getLayerListener(LightLayer.SKY);
+		boolean hasSkyLight = level.dimensionType().hasSkyLight();
+		int index = 0;
+		for (int x = SectionPos.blockToSectionCoord(pos.getX() - 1); x <= SectionPos.blockToSectionCoord(pos.getX() + 1); x++) {
+			for (int y = SectionPos.blockToSectionCoord(pos.getY() - 1); y <= SectionPos.blockToSectionCoord(pos.getY() + 1); y++) {
+				for (int z = SectionPos.blockToSectionCoord(pos.getZ() - 1); z <= SectionPos.blockToSectionCoord(pos.getZ() + 1); z++) {
+					SectionPos sectionPos = SectionPos.of(x, y, z);
+					DataLayer blockLayer = blockLight.getDataLayerData(sectionPos);
+					// Sky light in a section without data comes from the sections above it, so it can't be tracked here.
+					DataLayer skyLayer = hasSkyLight ? skyLight.getDataLayerData(sectionPos) : null;
+					if (hasSkyLight && skyLayer == null) {
+						return false;
+					}
+					if (capture) {
+						this.layers[index] = blockLayer;
+						this.layers[index + 1] = skyLayer;
+					} else if (this.layers[index] != blockLayer || this.layers[index + 1] != skyLayer) {
+						return false;
+					}
+					index += 2;
+				}
+			}
+		}
+		return true;
+	}
+}
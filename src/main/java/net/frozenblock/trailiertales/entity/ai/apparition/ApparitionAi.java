@@ -10,6 +10,7 @@ import net.frozenblock.trailiertales.registry.RegisterMemoryModuleTypes;
 import net.frozenblock.trailiertales.registry.RegisterSensorTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
@@ -39,6 +40,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 public class ApparitionAi {
+	private static final double ANGER_BROADCAST_RANGE = 16D;
 	public static final List<SensorType<? extends Sensor<? super Apparition>>> SENSOR_TYPES = List.of(
 		SensorType.NEAREST_LIVING_ENTITIES,
 		SensorType.HURT_BY,
@@ -227,8 +229,13 @@ public class ApparitionAi {
 	}
 
 	public static void broadcastAngerTarget(@NotNull Apparition apparition, LivingEntity target) {
-	//	Optional<List<Apparition>> nearbyApparitions = getNearbyApparitions(apparition);
-	//	nearbyApparitions.ifPresent(apparitions -> apparitions.forEach(listedApparition -> setAngerTargetIfCloserThanCurrent(listedApparition, target)));
+		if (apparition.level() instanceof ServerLevel serverLevel) {
+			ApparitionIndex.get(serverLevel).forEachNearby(apparition.position(), ANGER_BROADCAST_RANGE, listedApparition -> {
+				if (listedApparition != apparition && listedApparition.isAlive()) {
+					setAngerTargetIfCloserThanCurrent(listedApparition, target);
+				}
+			});
+		}
 	}
 
 	private static void setAngerTargetIfCloserThanCurrent(@NotNull Apparition apparition, LivingEntity currentTarget) {
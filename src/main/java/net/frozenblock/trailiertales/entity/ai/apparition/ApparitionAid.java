@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
 import net.frozenblock.trailiertales.registry.RegisterMemoryModuleTypes;
 import net.frozenblock.trailiertales.registry.RegisterParticles;
 import net.frozenblock.trailiertales.registry.RegisterSounds;
@@ -62,6 +63,7 @@ public class ApparitionAid extends Behavior<Apparition> {
 		});
 		if (!trackingUUIDs.isEmpty()) {
 			brain.setMemory(RegisterMemoryModuleTypes.AIDING_ENTITIES, trackingUUIDs);
+			ApparitionAidClaims.get(world).claim(apparition, trackingUUIDs);
 		}
 	}
 
@@ -70,6 +72,7 @@ public class ApparitionAid extends Behavior<Apparition> {
 		Brain<Apparition> brain = apparition.getBrain();
 		brain.setMemoryWithExpiry(RegisterMemoryModuleTypes.AID_COOLDOWN, Unit.INSTANCE, 200L);
 		brain.eraseMemory(RegisterMemoryModuleTypes.AIDING_ENTITIES);
+		ApparitionAidClaims.get(world).release(apparition);
 		apparition.setAidAnimProgress(0F);
 	}
 
@@ -84,6 +87,7 @@ public class ApparitionAid extends Behavior<Apparition> {
 		entities.forEach(aidable -> trackingUUIDs.add(aidable.getUUID()));
 		if (!trackingUUIDs.isEmpty()) {
 			brain.setMemory(RegisterMemoryModuleTypes.AIDING_ENTITIES, trackingUUIDs);
+			ApparitionAidClaims.get(world).claim(apparition, trackingUUIDs);
 		} else {
 			this.doStop(world, apparition, l);
 			return;
@@ -113,7 +117,7 @@ public class ApparitionAid extends Behavior<Apparition> {
 	}
 
 	private static void spawnParticles(@NotNull ServerLevel level, @NotNull LivingEntity entity, int count, ParticleOptions particleOptions) {
-		level.sendParticles(
+		ParticleBatcher.get(level).sendCosmeticParticles(
 			particleOptions,
 			entity.getX(),
 			entity.getY(0.6666666666666666D),
@@ -0,0 +1,72 @@
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.impl.ApparitionLevelInterface;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tracks which mobs of a {@link ServerLevel} are being aided by which {@link Apparition},
+ * so an apparition can skip mobs another apparition already claimed without scanning the level.
+ */
+public final class ApparitionAidClaims {
+	private final Map<UUID, Apparition> claimants = new Object2ReferenceOpenHashMap<>();
+	private final Map<Apparition, Set<UUID>> claims = new Reference2ObjectOpenHashMap<>();
+
+	public static void init() {
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Apparition apparition) {
+				get(level).release(apparition);
+			}
+		});
+	}
+
+	@NotNull
+	public static ApparitionAidClaims get(@NotNull ServerLevel level) {
+		return ((ApparitionLevelInterface) level).trailierTales$getApparitionAidClaims();
+	}
+
+	/**
+	 * Replaces every claim held by the apparition with the given mobs.
+	 */
+	public void claim(@NotNull Apparition apparition, @NotNull Collection<UUID> aidedEntities) {
+		Set<UUID> claimed = this.claims.get(apparition);
+		if (claimed == null) {
+			claimed = new ObjectOpenHashSet<>();
+			this.claims.put(apparition, claimed);
+		} else {
+			this.releaseClaimed(apparition, claimed);
+		}
+		for (UUID uuid : aidedEntities) {
+			claimed.add(uuid);
+			this.claimants.put(uuid, apparition);
+		}
+	}
+
+	public void release(@NotNull Apparition apparition) {
+		Set<UUID> claimed = this.claims.remove(apparition);
+		if (claimed != null) {
+			this.releaseClaimed(apparition, claimed);
+		}
+	}
+
+	private void releaseClaimed(@NotNull Apparition apparition, @NotNull Set<UUID> claimed) {
+		for (UUID uuid : claimed) {
+			this.claimants.remove(uuid, apparition);
+		}
+		claimed.clear();
+	}
+
+	public boolean isClaimedByOther(@NotNull Apparition apparition, @NotNull UUID uuid) {
+		Apparition claimant = this.claimants.get(uuid);
+		return claimant != null && claimant != apparition;
+	}
+}
@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
 import net.fabricmc.fabric.api.tag.convention.v2.ConventionalEntityTypeTags;
 import net.frozenblock.trailiertales.entity.Apparition;
 import net.frozenblock.trailiertales.registry.RegisterEntities;
@@ -18,11 +17,14 @@ import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
-import net.minecraft.world.entity.ai.sensing.Sensor;
 import net.minecraft.world.phys.AABB;
 import org.jetbrains.annotations.NotNull;
 
-public class ApparitionAidablesSensor extends Sensor<Apparition> {
+public class ApparitionAidablesSensor extends ApparitionIdleThrottledSensor {
+
+	public ApparitionAidablesSensor(int scanRate, int idleScanInterval) {
+		super(scanRate, idleScanInterval);
+	}
 
 	@Override
 	public @NotNull Set<MemoryModuleType<?>> requires() {
@@ -32,12 +34,12 @@ public class ApparitionAidablesSensor extends Sensor<Apparition> {
 		);
 	}
 
-	protected boolean isMatchingEntity(Apparition apparition, LivingEntity target, List<UUID> takenUUIDs) {
-		return this.isClose(apparition, target)
-			&& this.isAidable(apparition, target, takenUUIDs);
+	protected boolean isMatchingEntity(Apparition apparition, LivingEntity target, double rangeSqr, ApparitionAidClaims aidClaims) {
+		return ApparitionSensing.isWithinSqr(apparition, target, rangeSqr)
+			&& this.isAidable(apparition, target, aidClaims);
 	}
 
-	private boolean isAidable(@NotNull Apparition apparition, @NotNull LivingEntity entity, List<UUID> takenUUIDs) {
+	private boolean isAidable(@NotNull Apparition apparition, @NotNull LivingEntity entity, ApparitionAidClaims aidClaims) {
 		LivingEntity newTarget = apparition.getTarget();
 		if (
 			entity instanceof Mob mob
@@ -45,7 +47,7 @@ public class ApparitionAidablesSensor extends Sensor<Apparition> {
 				&& mob.getType() != RegisterEntities.APPARITION
 				&& !mob.getType().getCategory().isFriendly()
 				&& !mob.getType().is(ConventionalEntityTypeTags.BOSSES)
-				&& !takenUUIDs.contains(mob.getUUID())
+				&& !aidClaims.isClaimedByOther(apparition, mob.getUUID())
 		) {
 			Brain<Apparition> brain = apparition.getBrain();
 			if (brain.hasMemoryValue(RegisterMemoryModuleTypes.AIDING_TIME)) {
@@ -64,53 +66,26 @@ public class ApparitionAidablesSensor extends Sensor<Apparition> {
 		return false;
 	}
 
-	private boolean isClose(Apparition apparition, @NotNull LivingEntity target) {
-		return target.distanceTo(apparition) <= apparition.getAttributeValue(Attributes.FOLLOW_RANGE);
-	}
-
 	@Override
-	protected void doTick(@NotNull ServerLevel world, @NotNull Apparition apparition) {
+	protected void scan(@NotNull ServerLevel world, @NotNull Apparition apparition) {
 		Brain<?> brain = apparition.getBrain();
 		LivingEntity attackTarget = apparition.getTarget();
 		if (attackTarget != null) {
-			List<UUID> takenUUIDs = new ArrayList<>();
-			world.getAllEntities().forEach(
-				entity -> {
-					if (entity instanceof Apparition otherApparition && otherApparition != apparition) {
-						otherApparition.getBrain().getMemory(RegisterMemoryModuleTypes.AIDING_ENTITIES).ifPresent(takenUUIDs::addAll);
-					}
-				}
-			);
-
+			ApparitionAidClaims aidClaims = ApparitionAidClaims.get(world);
 			double range = apparition.getAttributeValue(Attributes.FOLLOW_RANGE);
+			double rangeSqr = range * range;
 			AABB aABB = apparition.getBoundingBox().inflate(range, range, range);
 			List<LivingEntity> list = world.getEntitiesOfClass(
 				LivingEntity.class,
 				aABB,
-				livingEntity2 -> isMatchingEntity(apparition, livingEntity2, takenUUIDs)
+				livingEntity2 -> isMatchingEntity(apparition, livingEntity2, rangeSqr, aidClaims)
 			);
 			list.sort(Comparator.comparingDouble(apparition::distanceToSqr));
 			brain.setMemory(RegisterMemoryModuleTypes.NEARBY_AIDABLES, list);
-			brain.setMemory(RegisterMemoryModuleTypes.NEAREST_AIDABLE, this.getNearestEntity(apparition));
+			brain.setMemory(RegisterMemoryModuleTypes.NEAREST_AIDABLE, list.isEmpty() ? null : list.getFirst());
 		} else {
 			brain.setMemory(RegisterMemoryModuleTypes.NEARBY_AIDABLES, new ArrayList<>());
 			brain.eraseMemory(RegisterMemoryModuleTypes.NEAREST_AIDABLE);
 		}
 	}
-
-	private Optional<LivingEntity> getNearestEntity(@NotNull Apparition apparition) {
-		return apparition.getBrain().getMemory(RegisterMemoryModuleTypes.NEARBY_AIDABLES)
-			.flatMap(livingEntities -> this.findClosest(livingEntities, livingEntity -> true));
-	}
-
-	private Optional<LivingEntity> findClosest(@NotNull List<? extends LivingEntity> livingEntities, Predicate<LivingEntity> predicate) {
-		for (LivingEntity livingEntity : livingEntities) {
-			if (predicate.test(livingEntity)) {
-				return Optional.of(livingEntity);
-			}
-		}
-
-		return Optional.empty();
-	}
-
 }
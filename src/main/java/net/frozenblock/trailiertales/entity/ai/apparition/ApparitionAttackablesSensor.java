@@ -6,7 +6,6 @@ import java.util.function.Predicate;
 import net.frozenblock.trailiertales.tag.TrailierEntityTags;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
 import net.minecraft.world.entity.ai.sensing.NearestVisibleLivingEntitySensor;
 import net.minecraft.world.entity.ai.sensing.Sensor;
@@ -16,7 +15,11 @@ public class ApparitionAttackablesSensor extends NearestVisibleLivingEntitySenso
 
 	@Override
 	protected boolean isMatchingEntity(LivingEntity entity, LivingEntity target) {
-		return this.isClose(entity, target)
+		return this.isMatchingEntity(entity, target, ApparitionSensing.getFollowRangeSqr(entity));
+	}
+
+	private boolean isMatchingEntity(LivingEntity entity, LivingEntity target, double rangeSqr) {
+		return ApparitionSensing.isWithinSqr(entity, target, rangeSqr)
 			&& this.isHostileTarget(target)
 			&& Sensor.isEntityAttackableIgnoringLineOfSight(entity, target);
 	}
@@ -25,18 +28,15 @@ public class ApparitionAttackablesSensor extends NearestVisibleLivingEntitySenso
 		return entity.getType().is(TrailierEntityTags.APPARITION_TARGETABLE);
 	}
 
-	private boolean isClose(LivingEntity apparition, @NotNull LivingEntity target) {
-		return target.distanceTo(apparition) <= apparition.getAttributes().getValue(Attributes.FOLLOW_RANGE);
-	}
-
 	@Override
 	protected void doTick(ServerLevel world, @NotNull LivingEntity entity) {
 		entity.getBrain().setMemory(this.getMemory(), this.getNearestEntityNoLineOfSight(entity));
 	}
 
 	private Optional<LivingEntity> getNearestEntityNoLineOfSight(@NotNull LivingEntity entity) {
+		double rangeSqr = ApparitionSensing.getFollowRangeSqr(entity);
 		return entity.getBrain().getMemory(MemoryModuleType.NEAREST_PLAYERS)
-			.flatMap(livingEntities -> this.findClosest(livingEntities, livingEntity -> this.isMatchingEntity(entity, livingEntity)));
+			.flatMap(livingEntities -> this.findClosest(livingEntities, livingEntity -> this.isMatchingEntity(entity, livingEntity, rangeSqr)));
 	}
 
 	private Optional<LivingEntity> findClosest(@NotNull List<? extends LivingEntity> livingEntities, Predicate<LivingEntity> predicate) {
@@ -0,0 +1,43 @@
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.ai.sensing.Sensor;
+import net.minecraft.world.entity.schedule.Activity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Sensor} that only scans every {@code idleScanInterval} periods while its {@link Apparition} is idle without an attack target.
+ * <p>
+ * {@link Sensor} already starts each instance at a random point of its scan period; the idle interval is offset the same way.
+ */
+public abstract class ApparitionIdleThrottledSensor extends Sensor<Apparition> {
+	private static final RandomSource RANDOM = RandomSource.createThreadSafe();
+	private final int idleScanInterval;
+	private int skippedScans;
+
+	protected ApparitionIdleThrottledSensor(int scanRate, int idleScanInterval) {
+		super(scanRate);
+		this.idleScanInterval = Math.max(idleScanInterval, 1);
+		this.skippedScans = RANDOM.nextInt(this.idleScanInterval);
+	}
+
+	@Override
+	protected final void doTick(@NotNull ServerLevel level, @NotNull Apparition apparition) {
+		if (isIdle(apparition) && ++this.skippedScans < this.idleScanInterval) {
+			return;
+		}
+		this.skippedScans = 0;
+		this.scan(level, apparition);
+	}
+
+	protected abstract void scan(@NotNull ServerLevel level, @NotNull Apparition apparition);
+
+	public static boolean isIdle(@NotNull Apparition apparition) {
+		Brain<Apparition> brain = apparition.getBrain();
+		return brain.isActive(Activity.IDLE) && !brain.hasMemoryValue(MemoryModuleType.ATTACK_TARGET);
+	}
+}
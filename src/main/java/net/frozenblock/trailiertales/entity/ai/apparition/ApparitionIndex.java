@@ -0,0 +1,136 @@
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.impl.ApparitionLevelInterface;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Buckets the loaded {@link Apparition}s of a {@link ServerLevel} by chunk section,
+ * so apparitions can find each other without going through living-entity sensor lists.
+ */
+public final class ApparitionIndex {
+	private final Long2ObjectOpenHashMap<List<Apparition>> sections = new Long2ObjectOpenHashMap<>();
+	private final Reference2LongOpenHashMap<Apparition> apparitionSections = new Reference2LongOpenHashMap<>();
+
+	public static void init() {
+		ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+			if (entity instanceof Apparition apparition) {
+				get(level).update(apparition);
+			}
+		});
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Apparition apparition) {
+				get(level).remove(apparition);
+			}
+		});
+	}
+
+	@NotNull
+	public static ApparitionIndex get(@NotNull ServerLevel level) {
+		return ((ApparitionLevelInterface) level).trailierTales$getApparitionIndex();
+	}
+
+	/**
+	 * Adds the apparition, or moves it to the section it is now in.
+	 */
+	public void update(@NotNull Apparition apparition) {
+		long section = SectionPos.asLong(apparition.blockPosition());
+		if (this.apparitionSections.containsKey(apparition)) {
+			long previousSection = this.apparitionSections.getLong(apparition);
+			if (previousSection == section) {
+				return;
+			}
+			this.removeFromSection(apparition, previousSection);
+		}
+		this.apparitionSections.put(apparition, section);
+		this.sections.computeIfAbsent(section, key -> new ObjectArrayList<>()).add(apparition);
+	}
+
+	public void remove(@NotNull Apparition apparition) {
+		if (this.apparitionSections.containsKey(apparition)) {
+			this.removeFromSection(apparition, this.apparitionSections.removeLong(apparition));
+		}
+	}
+
+	private void removeFromSection(@NotNull Apparition apparition, long section) {
+		List<Apparition> apparitions = this.sections.get(section);
+		if (apparitions != null && apparitions.remove(apparition) && apparitions.isEmpty()) {
+			this.sections.remove(section);
+		}
+	}
+
+	public void forEachNearby(@NotNull Vec3 pos, double radius, @NotNull Consumer<Apparition> consumer) {
+		double radiusSqr = radius * radius;
+		this.forEachInSections(
+			BlockPos.containing(pos.x - radius, pos.y - radius, pos.z - radius),
+			BlockPos.containing(pos.x + radius, pos.y + radius, pos.z + radius),
+			apparition -> {
+				if (apparition.distanceToSqr(pos) <= radiusSqr) {
+					consumer.accept(apparition);
+				}
+			}
+		);
+	}
+
+	/**
+	 * @return the apparitions within {@code radius} of {@code pos}, closest first.
+	 */
+	@NotNull
+	public List<Apparition> nearby(@NotNull Vec3 pos, double radius) {
+		List<Apparition> apparitions = new ObjectArrayList<>();
+		this.forEachNearby(pos, radius, apparitions::add);
+		apparitions.sort(Comparator.comparingDouble(apparition -> apparition.distanceToSqr(pos)));
+		return apparitions;
+	}
+
+	/**
+	 * Visits every apparition standing inside one of the structure's pieces.
+	 */
+	public void forEachInStructure(@NotNull StructureStart structureStart, @NotNull Consumer<Apparition> consumer) {
+		if (!structureStart.isValid()) {
+			return;
+		}
+		BoundingBox box = structureStart.getBoundingBox();
+		List<StructurePiece> pieces = structureStart.getPieces();
+		this.forEachInSections(
+			new BlockPos(box.minX(), box.minY(), box.minZ()),
+			new BlockPos(box.maxX(), box.maxY(), box.maxZ()),
+			apparition -> {
+				BlockPos pos = apparition.blockPosition();
+				for (StructurePiece piece : pieces) {
+					if (piece.getBoundingBox().isInside(pos)) {
+						consumer.accept(apparition);
+						return;
+					}
+				}
+			}
+		);
+	}
+
+	private void forEachInSections(@NotNull BlockPos min, @NotNull BlockPos max, @NotNull Consumer<Apparition> consumer) {
+		for (int x = SectionPos.blockToSectionCoord(min.getX()); x <= SectionPos.blockToSectionCoord(max.getX()); x++) {
+			for (int y = SectionPos.blockToSectionCoord(min.getY()); y <= SectionPos.blockToSectionCoord(max.getY()); y++) {
+				for (int z = SectionPos.blockToSectionCoord(min.getZ()); z <= SectionPos.blockToSectionCoord(max.getZ()); z++) {
+					List<Apparition> apparitions = this.sections.get(SectionPos.asLong(x, y, z));
+					if (apparitions != null) {
+						apparitions.forEach(consumer);
+					}
+				}
+			}
+		}
+	}
+}
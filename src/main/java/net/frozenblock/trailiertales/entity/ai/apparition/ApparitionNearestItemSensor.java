@@ -1,21 +1,23 @@
 package net.frozenblock.trailiertales.entity.ai.apparition;
 
 import com.google.common.collect.ImmutableSet;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import net.frozenblock.trailiertales.entity.Apparition;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.memory.MemoryModuleType;
-import net.minecraft.world.entity.ai.sensing.Sensor;
 import net.minecraft.world.entity.item.ItemEntity;
 import org.jetbrains.annotations.NotNull;
 
-public class ApparitionNearestItemSensor extends Sensor<Apparition> {
+public class ApparitionNearestItemSensor extends ApparitionIdleThrottledSensor {
 	private static final double RADIUS = 24D;
 	private static final double Y_RANGE = 24D;
+	private static final double RADIUS_SQR = RADIUS * RADIUS;
+
+	public ApparitionNearestItemSensor(int scanRate, int idleScanInterval) {
+		super(scanRate, idleScanInterval);
+	}
 
 	@Override
 	public @NotNull Set<MemoryModuleType<?>> requires() {
@@ -23,14 +25,27 @@ public class ApparitionNearestItemSensor extends Sensor<Apparition> {
 	}
 
 	@Override
-	protected void doTick(@NotNull ServerLevel world, @NotNull Apparition apparition) {
+	protected void scan(@NotNull ServerLevel world, @NotNull Apparition apparition) {
 		Brain<?> brain = apparition.getBrain();
-		List<ItemEntity> list = world.getEntitiesOfClass(ItemEntity.class, apparition.getBoundingBox().inflate(RADIUS, Y_RANGE, RADIUS), itemEntity -> true);
-		list.sort(Comparator.comparingDouble(apparition::distanceToSqr));
-		Optional<ItemEntity> optional = list.stream()
-			.filter(apparition::wantsToPickUp)
-			.filter(itemEntity -> itemEntity.closerThan(apparition, RADIUS))
-			.findFirst();
-		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM, optional);
+		if (!ApparitionSensing.wantsAnyItem(apparition)) {
+			brain.eraseMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM);
+			return;
+		}
+
+		List<ItemEntity> list = world.getEntitiesOfClass(
+			ItemEntity.class,
+			apparition.getBoundingBox().inflate(RADIUS, Y_RANGE, RADIUS),
+			itemEntity -> ApparitionSensing.isWithinSqr(apparition, itemEntity, RADIUS_SQR)
+		);
+		ItemEntity nearestItem = null;
+		double nearestDistance = Double.MAX_VALUE;
+		for (ItemEntity itemEntity : list) {
+			double distance = apparition.distanceToSqr(itemEntity);
+			if (distance < nearestDistance && apparition.wantsToPickUp(itemEntity)) {
+				nearestItem = itemEntity;
+				nearestDistance = distance;
+			}
+		}
+		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM, nearestItem);
 	}
 }
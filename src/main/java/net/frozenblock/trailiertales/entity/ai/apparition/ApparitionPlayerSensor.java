@@ -1,14 +1,12 @@
 package net.frozenblock.trailiertales.entity.ai.apparition;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import java.util.Comparator;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import net.frozenblock.trailiertales.entity.Apparition;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.Brain;
 import net.minecraft.world.entity.ai.attributes.Attributes;
@@ -19,16 +17,17 @@ import net.minecraft.world.entity.player.Player;
 import org.jetbrains.annotations.NotNull;
 
 public class ApparitionPlayerSensor extends Sensor<Apparition> {
-	private static final TargetingConditions TARGET_CONDITIONS = TargetingConditions.forNonCombat()
-		.ignoreLineOfSight();
-	private static final TargetingConditions TARGET_CONDITIONS_IGNORE_INVISIBILITY_TESTING = TargetingConditions.forNonCombat()
-		.ignoreLineOfSight()
-		.ignoreInvisibilityTesting();
-	private static final TargetingConditions ATTACK_TARGET_CONDITIONS = TargetingConditions.forCombat()
-		.ignoreLineOfSight();
-	private static final TargetingConditions ATTACK_TARGET_CONDITIONS_IGNORE_INVISIBILITY = TargetingConditions.forCombat()
-		.ignoreLineOfSight()
-		.ignoreInvisibilityTesting();
+	private final List<Player> nearestPlayers = new ObjectArrayList<>();
+	private double[] nearestDistances = new double[4];
+	private double conditionsRange = Double.NaN;
+	private TargetingConditions targetConditions;
+	private TargetingConditions targetConditionsIgnoreInvisibility;
+	private TargetingConditions attackTargetConditions;
+	private TargetingConditions attackTargetConditionsIgnoreInvisibility;
+
+	public ApparitionPlayerSensor(int scanRate) {
+		super(scanRate);
+	}
 
 	@Override
 	public @NotNull Set<MemoryModuleType<?>> requires() {
@@ -38,30 +37,92 @@ public class ApparitionPlayerSensor extends Sensor<Apparition> {
 	@Override
 	protected void doTick(@NotNull ServerLevel world, @NotNull Apparition apparition) {
 		double range = apparition.getAttributeValue(Attributes.FOLLOW_RANGE);
-		List<Player> list = world.players()
-			.stream()
-			.filter(EntitySelector.NO_SPECTATORS)
-			.filter(player -> apparition.closerThan(player, range))
-			.sorted(Comparator.comparingDouble(apparition::distanceToSqr))
-			.collect(Collectors.toList());
+		this.updateConditions(range);
+		this.collectNearestPlayers(world, apparition, range * range);
+
+		Player nearestVisiblePlayer = null;
+		Player nearestAttackablePlayer = null;
+		for (Player player : this.nearestPlayers) {
+			if (this.isEntityTargetable(apparition, player)) {
+				if (nearestVisiblePlayer == null) {
+					nearestVisiblePlayer = player;
+				}
+				if (this.isEntityAttackable(apparition, player)) {
+					nearestAttackablePlayer = player;
+					break;
+				}
+			}
+		}
 
 		Brain<?> brain = apparition.getBrain();
-		brain.setMemory(MemoryModuleType.NEAREST_PLAYERS, list);
-		List<Player> list2 = list.stream().filter(player -> isEntityTargetable(apparition, player, range)).toList();
-		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_PLAYER, list2.isEmpty() ? null : list2.getFirst());
-		Optional<Player> optional = list2.stream().filter(player -> isEntityAttackable(apparition, player, range)).findFirst();
-		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_ATTACKABLE_PLAYER, optional);
+		brain.setMemory(MemoryModuleType.NEAREST_PLAYERS, ImmutableList.copyOf(this.nearestPlayers));
+		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_PLAYER, nearestVisiblePlayer);
+		brain.setMemory(MemoryModuleType.NEAREST_VISIBLE_ATTACKABLE_PLAYER, nearestAttackablePlayer);
+		this.nearestPlayers.clear();
+	}
+
+	/**
+	 * Fills {@link #nearestPlayers} with the non-spectator players within range, closest first.
+	 */
+	private void collectNearestPlayers(@NotNull ServerLevel world, @NotNull Apparition apparition, double rangeSqr) {
+		int count = 0;
+		for (Player player : world.players()) {
+			if (player.isSpectator()) {
+				continue;
+			}
+			double distance = apparition.distanceToSqr(player);
+			if (distance >= rangeSqr) {
+				continue;
+			}
+			if (count == this.nearestDistances.length) {
+				double[] grown = new double[count * 2];
+				System.arraycopy(this.nearestDistances, 0, grown, 0, count);
+				this.nearestDistances = grown;
+			}
+			int index = count;
+			while (index > 0 && this.nearestDistances[index - 1] > distance) {
+				this.nearestDistances[index] = this.nearestDistances[index - 1];
+				index--;
+			}
+			this.nearestDistances[index] = distance;
+			this.nearestPlayers.add(index, player);
+			count++;
+		}
+	}
+
+	/**
+	 * {@link TargetingConditions#range(double)} mutates the conditions it is called on, so each sensor keeps its own
+	 * conditions and only rebuilds them when the follow range changes.
+	 */
+	private void updateConditions(double range) {
+		if (range != this.conditionsRange) {
+			this.conditionsRange = range;
+			this.targetConditions = TargetingConditions.forNonCombat()
+				.range(range)
+				.ignoreLineOfSight();
+			this.targetConditionsIgnoreInvisibility = TargetingConditions.forNonCombat()
+				.range(range)
+				.ignoreLineOfSight()
+				.ignoreInvisibilityTesting();
+			this.attackTargetConditions = TargetingConditions.forCombat()
+				.range(range)
+				.ignoreLineOfSight();
+			this.attackTargetConditionsIgnoreInvisibility = TargetingConditions.forCombat()
+				.range(range)
+				.ignoreLineOfSight()
+				.ignoreInvisibilityTesting();
+		}
 	}
 
-	public static boolean isEntityTargetable(@NotNull LivingEntity entity, LivingEntity target, double range) {
+	private boolean isEntityTargetable(@NotNull LivingEntity entity, LivingEntity target) {
 		return entity.getBrain().isMemoryValue(MemoryModuleType.ATTACK_TARGET, target)
-			? TARGET_CONDITIONS_IGNORE_INVISIBILITY_TESTING.range(range).test(entity, target)
-			: TARGET_CONDITIONS.range(range).test(entity, target);
+			? this.targetConditionsIgnoreInvisibility.test(entity, target)
+			: this.targetConditions.test(entity, target);
 	}
 
-	public static boolean isEntityAttackable(@NotNull LivingEntity entity, LivingEntity target, double range) {
+	private boolean isEntityAttackable(@NotNull LivingEntity entity, LivingEntity target) {
 		return entity.getBrain().isMemoryValue(MemoryModuleType.ATTACK_TARGET, target)
-			? ATTACK_TARGET_CONDITIONS_IGNORE_INVISIBILITY.range(range).test(entity, target)
-			: ATTACK_TARGET_CONDITIONS.range(range).test(entity, target);
+			? this.attackTargetConditionsIgnoreInvisibility.test(entity, target)
+			: this.attackTargetConditions.test(entity, target);
 	}
 }
@@ -0,0 +1,32 @@
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared checks for the apparition sensors, meant to be evaluated once per scan rather than once per candidate.
+ */
+public final class ApparitionSensing {
+	private ApparitionSensing() {
+		throw new UnsupportedOperationException("ApparitionSensing contains only static declarations.");
+	}
+
+	public static double getFollowRangeSqr(@NotNull LivingEntity entity) {
+		double range = entity.getAttributeValue(Attributes.FOLLOW_RANGE);
+		return range * range;
+	}
+
+	public static boolean isWithinSqr(@NotNull Entity entity, @NotNull Entity target, double rangeSqr) {
+		return entity.distanceToSqr(target) <= rangeSqr;
+	}
+
+	/**
+	 * Mirrors {@link Apparition#wantsToPickUp(net.minecraft.world.entity.item.ItemEntity)}, which does not depend on the item itself.
+	 */
+	public static boolean wantsAnyItem(@NotNull Apparition apparition) {
+		return apparition.getTarget() != null && apparition.getInventory().getItems().getFirst().isEmpty();
+	}
+}
@@ -1,9 +1,6 @@
 package net.frozenblock.trailiertales.entity.ai.apparition;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Lists;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import net.frozenblock.trailiertales.entity.Apparition;
@@ -16,23 +13,23 @@ import net.minecraft.world.entity.ai.sensing.Sensor;
 import org.jetbrains.annotations.NotNull;
 
 public class ApparitionSpecificSensor extends Sensor<LivingEntity> {
+	private static final double NEARBY_RANGE = 16D;
+
+	public ApparitionSpecificSensor(int scanRate) {
+		super(scanRate);
+	}
 
 	@Override
 	@NotNull
 	public Set<MemoryModuleType<?>> requires() {
-		return ImmutableSet.of(RegisterMemoryModuleTypes.NEARBY_APPARITIONS, MemoryModuleType.NEAREST_LIVING_ENTITIES);
+		return ImmutableSet.of(RegisterMemoryModuleTypes.NEARBY_APPARITIONS);
 	}
 
 	@Override
 	protected void doTick(@NotNull ServerLevel level, @NotNull LivingEntity entity) {
 		Brain<?> brain = entity.getBrain();
-		ArrayList<Apparition> apparitions = Lists.newArrayList();
-		List<LivingEntity> entities = brain.getMemory(MemoryModuleType.NEAREST_LIVING_ENTITIES).orElse(ImmutableList.of());
-		for (LivingEntity livingEntity : entities) {
-			if (livingEntity instanceof Apparition apparition) {
-				apparitions.add(apparition);
-			}
-		}
+		List<Apparition> apparitions = ApparitionIndex.get(level).nearby(entity.position(), NEARBY_RANGE);
+		apparitions.removeIf(apparition -> apparition == entity || !apparition.isAlive());
 		brain.setMemory(RegisterMemoryModuleTypes.NEARBY_APPARITIONS, apparitions);
 	}
 }
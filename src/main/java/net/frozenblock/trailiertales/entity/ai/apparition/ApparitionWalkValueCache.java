@@ -0,0 +1,174 @@
+package net.frozenblock.trailiertales.entity.ai.apparition;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.frozenblock.trailiertales.block.entity.coffin.CoffinSpawner;
+import net.frozenblock.trailiertales.entity.Apparition;
+import net.frozenblock.trailiertales.impl.ApparitionLevelInterface;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.chunk.DataLayer;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches the block, light, and Catacombs lookups behind {@link Apparition#getWalkTargetValue(BlockPos)}, shared by every apparition in a level.
+ * <p>
+ * Samples are grouped by chunk section. A section is dropped when a block inside it changes, when its chunk unloads,
+ * once it has gone unused for a while, or when its light changes. The light engine copies a section's {@link DataLayer}
+ * before writing to it, so the layer instances are compared at most once per tick.
+ */
+public final class ApparitionWalkValueCache {
+	private static final int SWEEP_INTERVAL = 200;
+	private static final int MAX_IDLE_TICKS = 600;
+	private static final byte MISSING = -1;
+	private static final int BRIGHTNESS_MASK = 0xF;
+	private static final int FULL_BLOCK = 1 << 4;
+	private static final int CATACOMBS_KNOWN = 1 << 5;
+	private static final int IN_CATACOMBS = 1 << 6;
+	private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+	public static void init() {
+		ServerChunkEvents.CHUNK_UNLOAD.register((level, chunk) -> get(level).removeChunk(level, chunk.getPos()));
+		ServerTickEvents.END_WORLD_TICK.register(level -> get(level).sweep(level.getGameTime()));
+	}
+
+	@NotNull
+	public static ApparitionWalkValueCache get(@NotNull ServerLevel level) {
+		return ((ApparitionLevelInterface) level).trailierTales$getApparitionWalkValueCache();
+	}
+
+	public static int getBrightness(int sample) {
+		return sample & BRIGHTNESS_MASK;
+	}
+
+	public static boolean isFullBlock(int sample) {
+		return (sample & FULL_BLOCK) != 0;
+	}
+
+	public static boolean isInCatacombs(int sample) {
+		return (sample & IN_CATACOMBS) != 0;
+	}
+
+	/**
+	 * @param withCatacombs whether the sample also needs to know if {@code pos} is inside the Catacombs.
+	 * @return the packed sample for {@code pos}, read through {@link #getBrightness(int)}, {@link #isFullBlock(int)} and {@link #isInCatacombs(int)}.
+	 */
+	public int sample(@NotNull ServerLevel level, @NotNull BlockPos pos, boolean withCatacombs) {
+		long sectionKey = SectionPos.asLong(pos);
+		long gameTime = level.getGameTime();
+		Section section = this.sections.get(sectionKey);
+		if (section != null && section.validatedTick != gameTime) {
+			if (section.matchesLight(level, sectionKey)) {
+				section.validatedTick = gameTime;
+			} else {
+				this.sections.remove(sectionKey);
+				section = null;
+			}
+		}
+		if (section == null) {
+			section = Section.capture(level, sectionKey, gameTime);
+			if (section == null) {
+				return computeSample(level, pos, withCatacombs);
+			}
+			this.sections.put(sectionKey, section);
+		}
+
+		long posKey = pos.asLong();
+		int sample = section.samples.get(posKey);
+		if (sample == MISSING || (withCatacombs && (sample & CATACOMBS_KNOWN) == 0)) {
+			sample = computeSample(level, pos, withCatacombs);
+			section.samples.put(posKey, (byte) sample);
+		}
+		return sample;
+	}
+
+	private static int computeSample(@NotNull ServerLevel level, @NotNull BlockPos pos, boolean withCatacombs) {
+		int sample = level.getRawBrightness(pos, 0) & BRIGHTNESS_MASK;
+		if (level.getBlockState(pos).isCollisionShapeFullBlock(level, pos)) {
+			sample |= FULL_BLOCK;
+		}
+		if (withCatacombs) {
+			sample |= CATACOMBS_KNOWN;
+			if (CoffinSpawner.isInCatacombsBounds(pos, level)) {
+				sample |= IN_CATACOMBS;
+			}
+		}
+		return sample;
+	}
+
+	public void onBlockStateChange(@NotNull BlockPos pos) {
+		if (!this.sections.isEmpty()) {
+			this.sections.remove(SectionPos.asLong(pos));
+		}
+	}
+
+	private void removeChunk(@NotNull ServerLevel level, @NotNull ChunkPos chunkPos) {
+		if (this.sections.isEmpty()) {
+			return;
+		}
+		for (int y = level.getMinSection(); y < level.getMaxSection(); y++) {
+			this.sections.remove(SectionPos.asLong(chunkPos.x, y, chunkPos.z));
+		}
+	}
+
+	private void sweep(long gameTime) {
+		if (gameTime % SWEEP_INTERVAL != 0L || this.sections.isEmpty()) {
+			return;
+		}
+		ObjectIterator<Long2ObjectMap.Entry<Section>> iterator = this.sections.long2ObjectEntrySet().fastIterator();
+		while (iterator.hasNext()) {
+			if (gameTime - iterator.next().getValue().validatedTick > MAX_IDLE_TICKS) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static final class Section {
+		private final Long2ByteOpenHashMap samples = new Long2ByteOpenHashMap();
+		@Nullable
+		private final DataLayer blockLayer;
+		@Nullable
+		private final DataLayer skyLayer;
+		private long validatedTick;
+
+		private Section(@Nullable DataLayer blockLayer, @Nullable DataLayer skyLayer, long validatedTick) {
+			this.samples.defaultReturnValue(MISSING);
+			this.blockLayer = blockLayer;
+			this.skyLayer = skyLayer;
+			this.validatedTick = validatedTick;
+		}
+
+		/**
+		 * @return a new section, or {@code null} if its sky light can't be tracked because it comes from the sections above.
+		 */
+		@Nullable
+		private static Section capture(@NotNull ServerLevel level, long sectionKey, long gameTime) {
+			SectionPos sectionPos = SectionPos.of(sectionKey);
+			LevelLightEngine lightEngine = level.getLightEngine();
+			DataLayer skyLayer = null;
+			if (level.dimensionType().hasSkyLight()) {
+				skyLayer = lightEngine.getLayerListener(LightLayer.SKY).getDataLayerData(sectionPos);
+				if (skyLayer == null) {
+					return null;
+				}
+			}
+			return new Section(lightEngine.getLayerListener(LightLayer.BLOCK).getDataLayerData(sectionPos), skyLayer, gameTime);
+		}
+
+		private boolean matchesLight(@NotNull ServerLevel level, long sectionKey) {
+			SectionPos sectionPos = SectionPos.of(sectionKey);
+			LevelLightEngine lightEngine = level.getLightEngine();
+			return lightEngine.getLayerListener(LightLayer.BLOCK).getDataLayerData(sectionPos) == this.blockLayer
+				&& (this.skyLayer == null || lightEngine.getLayerListener(LightLayer.SKY).getDataLayerData(sectionPos) == this.skyLayer);
+		}
+	}
+}
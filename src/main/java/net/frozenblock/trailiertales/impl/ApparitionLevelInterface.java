@@ -0,0 +1,13 @@
+package net.frozenblock.trailiertales.impl;
+
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAidClaims;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionIndex;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionWalkValueCache;
+
+public interface ApparitionLevelInterface {
+	ApparitionAidClaims trailierTales$getApparitionAidClaims();
+
+	ApparitionIndex trailierTales$getApparitionIndex();
+
+	ApparitionWalkValueCache trailierTales$getApparitionWalkValueCache();
+}
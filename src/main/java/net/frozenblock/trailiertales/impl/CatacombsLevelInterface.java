@@ -0,0 +1,7 @@
+package net.frozenblock.trailiertales.impl;
+
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
+
+public interface CatacombsLevelInterface {
+	CatacombsBoundsIndex trailierTales$getCatacombsBoundsIndex();
+}
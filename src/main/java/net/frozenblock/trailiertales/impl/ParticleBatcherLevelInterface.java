@@ -0,0 +1,7 @@
+package net.frozenblock.trailiertales.impl;
+
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
+
+public interface ParticleBatcherLevelInterface {
+	ParticleBatcher trailierTales$getParticleBatcher();
+}
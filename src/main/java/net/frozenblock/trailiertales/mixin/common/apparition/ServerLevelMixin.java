@@ -0,0 +1,51 @@
+package net.frozenblock.trailiertales.mixin.common.apparition;
+
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionAidClaims;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionIndex;
+import net.frozenblock.trailiertales.entity.ai.apparition.ApparitionWalkValueCache;
+import net.frozenblock.trailiertales.impl.ApparitionLevelInterface;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerLevel.class)
+public class ServerLevelMixin implements ApparitionLevelInterface {
+
+	@Unique
+	private final ApparitionAidClaims trailierTales$apparitionAidClaims = new ApparitionAidClaims();
+
+	@Unique
+	private final ApparitionIndex trailierTales$apparitionIndex = new ApparitionIndex();
+
+	@Unique
+	private final ApparitionWalkValueCache trailierTales$apparitionWalkValueCache = new ApparitionWalkValueCache();
+
+	@Inject(method = "onBlockStateChange", at = @At("HEAD"))
+	public void trailierTales$invalidateWalkValues(BlockPos pos, BlockState blockState, BlockState newState, CallbackInfo info) {
+		this.trailierTales$apparitionWalkValueCache.onBlockStateChange(pos);
+	}
+
+	@Unique
+	@Override
+	public ApparitionAidClaims trailierTales$getApparitionAidClaims() {
+		return this.trailierTales$apparitionAidClaims;
+	}
+
+	@Unique
+	@Override
+	public ApparitionIndex trailierTales$getApparitionIndex() {
+		return this.trailierTales$apparitionIndex;
+	}
+
+	@Unique
+	@Override
+	public ApparitionWalkValueCache trailierTales$getApparitionWalkValueCache() {
+		return this.trailierTales$apparitionWalkValueCache;
+	}
+
+}
@@ -0,0 +1,42 @@
+package net.frozenblock.trailiertales.mixin.common.coffin;
+
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinLevelInterface;
+import net.frozenblock.trailiertales.block.entity.coffin.impl.CoffinRegistry;
+import net.frozenblock.trailiertales.impl.CatacombsLevelInterface;
+import net.frozenblock.trailiertales.worldgen.structure.CatacombsBoundsIndex;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerLevel.class)
+public class ServerLevelMixin implements CoffinLevelInterface, CatacombsLevelInterface {
+
+	@Unique
+	private final CoffinRegistry trailierTales$coffinRegistry = new CoffinRegistry();
+
+	@Unique
+	private final CatacombsBoundsIndex trailierTales$catacombsBoundsIndex = new CatacombsBoundsIndex();
+
+	@Inject(method = "onBlockStateChange", at = @At("HEAD"))
+	public void trailierTales$onBlockStateChange(BlockPos pos, BlockState blockState, BlockState newState, CallbackInfo info) {
+		this.trailierTales$coffinRegistry.onBlockStateChange(pos);
+	}
+
+	@Unique
+	@Override
+	public CoffinRegistry trailierTales$getCoffinRegistry() {
+		return this.trailierTales$coffinRegistry;
+	}
+
+	@Unique
+	@Override
+	public CatacombsBoundsIndex trailierTales$getCatacombsBoundsIndex() {
+		return this.trailierTales$catacombsBoundsIndex;
+	}
+
+}
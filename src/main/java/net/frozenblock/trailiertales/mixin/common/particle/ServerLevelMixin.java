@@ -0,0 +1,21 @@
+package net.frozenblock.trailiertales.mixin.common.particle;
+
+import net.frozenblock.trailiertales.impl.ParticleBatcherLevelInterface;
+import net.frozenblock.trailiertales.networking.ParticleBatcher;
+import net.minecraft.server.level.ServerLevel;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(ServerLevel.class)
+public class ServerLevelMixin implements ParticleBatcherLevelInterface {
+
+	@Unique
+	private final ParticleBatcher trailierTales$particleBatcher = new ParticleBatcher();
+
+	@Unique
+	@Override
+	public ParticleBatcher trailierTales$getParticleBatcher() {
+		return this.trailierTales$particleBatcher;
+	}
+
+}
@@ -0,0 +1,31 @@
+package net.frozenblock.trailiertales.mixin.common.surveyor;
+
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorIndex;
+import net.frozenblock.trailiertales.block.entity.impl.SurveyorLevelInterface;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerLevel.class)
+public class ServerLevelMixin implements SurveyorLevelInterface {
+
+	@Unique
+	private final SurveyorIndex trailierTales$surveyorIndex = new SurveyorIndex();
+
+	@Inject(method = "onBlockStateChange", at = @At("HEAD"))
+	public void trailierTales$markSurveyors(BlockPos pos, BlockState blockState, BlockState newState, CallbackInfo info) {
+		this.trailierTales$surveyorIndex.onBlockStateChange(pos);
+	}
+
+	@Unique
+	@Override
+	public SurveyorIndex trailierTales$getSurveyorIndex() {
+		return this.trailierTales$surveyorIndex;
+	}
+
+}
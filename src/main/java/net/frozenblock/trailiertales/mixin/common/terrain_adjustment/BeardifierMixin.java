@@ -4,6 +4,7 @@ import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import it.unimi.dsi.fastutil.objects.ObjectListIterator;
+import net.frozenblock.trailiertales.worldgen.SmallPlatformKernel;
 import net.frozenblock.trailiertales.worldgen.TrailierTerrainAdjustment;
 import net.minecraft.world.level.levelgen.Beardifier;
 import net.minecraft.world.level.levelgen.structure.TerrainAdjustment;
@@ -23,6 +24,9 @@ public class BeardifierMixin {
 	@Final
 	private ObjectListIterator<Beardifier.Rigid> pieceIterator;
 
+	@Unique
+	private boolean trailierTales$smallPlatform;
+
 	@Unique
 	private int trailierTales$yOffset = 0;
 
@@ -46,12 +50,13 @@ public class BeardifierMixin {
 		if (this.pieceIterator.hasNext()) {
 			TerrainAdjustment adjustment = this.pieceIterator.next().terrainAdjustment();
 			if (adjustment == TrailierTerrainAdjustment.SMALL_PLATFORM) {
+				this.trailierTales$smallPlatform = true;
 				this.trailierTales$yOffset = -13;
 				this.trailierTales$xScale = 2D;
 				this.trailierTales$zScale = 2D;
-				this.trailierTales$xContributionScale = 0.7D;
-				this.trailierTales$yContributionScale = 1D;
-				this.trailierTales$zContributionScale = 0.7D;
+				this.trailierTales$xContributionScale = SmallPlatformKernel.X_CONTRIBUTION_SCALE;
+				this.trailierTales$yContributionScale = SmallPlatformKernel.Y_CONTRIBUTION_SCALE;
+				this.trailierTales$zContributionScale = SmallPlatformKernel.Z_CONTRIBUTION_SCALE;
 			}
 			this.pieceIterator.previous();
 		}
@@ -125,6 +130,12 @@ public class BeardifierMixin {
 		)
 	)
 	public double trailierTales$smallPlatformLogicInBury(double x, double y, double z, Operation<Double> operation) {
+		if (this.trailierTales$smallPlatform) {
+			double contribution = SmallPlatformKernel.getContribution(x, y, z);
+			if (!Double.isNaN(contribution)) {
+				return contribution;
+			}
+		}
 		return operation.call(x * this.trailierTales$xContributionScale, y * this.trailierTales$yContributionScale, z * this.trailierTales$zContributionScale);
 	}
 
@@ -0,0 +1,64 @@
+package net.frozenblock.trailiertales.networking;
+
+import io.netty.buffer.ByteBuf;
+import java.util.List;
+import net.frozenblock.trailiertales.TrailierConstants;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Every particle emission a player receives from Trailier Tales within a tick, grouped by {@link ParticleOptions}.
+ * <p>
+ * Each {@link Spot} is expanded on the client the same way a vanilla particle packet is.
+ */
+public record ParticleBatchPayload(List<Group> groups) implements CustomPacketPayload {
+	public static final Type<ParticleBatchPayload> PACKET_TYPE = new Type<>(TrailierConstants.id("particle_batch"));
+	public static final StreamCodec<RegistryFriendlyByteBuf, ParticleBatchPayload> CODEC = Group.STREAM_CODEC
+		.apply(ByteBufCodecs.list())
+		.map(ParticleBatchPayload::new, ParticleBatchPayload::groups);
+
+	@Override
+	@NotNull
+	public Type<? extends CustomPacketPayload> type() {
+		return PACKET_TYPE;
+	}
+
+	public record Group(ParticleOptions options, List<Spot> spots) {
+		public static final StreamCodec<RegistryFriendlyByteBuf, Group> STREAM_CODEC = StreamCodec.composite(
+			ParticleTypes.STREAM_CODEC, Group::options,
+			Spot.STREAM_CODEC.apply(ByteBufCodecs.list()), Group::spots,
+			Group::new
+		);
+	}
+
+	public record Spot(double x, double y, double z, float xDist, float yDist, float zDist, float maxSpeed, int count) {
+		public static final StreamCodec<ByteBuf, Spot> STREAM_CODEC = StreamCodec.of(
+			(buf, spot) -> {
+				buf.writeDouble(spot.x);
+				buf.writeDouble(spot.y);
+				buf.writeDouble(spot.z);
+				buf.writeFloat(spot.xDist);
+				buf.writeFloat(spot.yDist);
+				buf.writeFloat(spot.zDist);
+				buf.writeFloat(spot.maxSpeed);
+				VarInt.write(buf, spot.count);
+			},
+			buf -> new Spot(
+				buf.readDouble(),
+				buf.readDouble(),
+				buf.readDouble(),
+				buf.readFloat(),
+				buf.readFloat(),
+				buf.readFloat(),
+				buf.readFloat(),
+				VarInt.read(buf)
+			)
+		);
+	}
+}
@@ -0,0 +1,137 @@
+package net.frozenblock.trailiertales.networking;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.trailiertales.impl.ParticleBatcherLevelInterface;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects the particle emissions of a {@link ServerLevel} during a tick, and sends each player a single {@link ParticleBatchPayload}
+ * with the emissions in range of them at the end of the tick.
+ * <p>
+ * Cosmetic emissions are only sent to players within {@link #COSMETIC_RANGE}.
+ * Players without the payload registered get the usual vanilla particle packets instead.
+ */
+public final class ParticleBatcher {
+	public static final double RANGE = 32D;
+	public static final double COSMETIC_RANGE = 16D;
+	private static final double RANGE_SQR = RANGE * RANGE;
+	private static final double COSMETIC_RANGE_SQR = COSMETIC_RANGE * COSMETIC_RANGE;
+	private final Map<ParticleOptions, List<Emission>> emissions = new Reference2ObjectLinkedOpenHashMap<>();
+	private final List<ParticleBatchPayload.Spot> spots = new ObjectArrayList<>();
+
+	public static void init() {
+		ServerTickEvents.END_WORLD_TICK.register(level -> get(level).flush(level));
+	}
+
+	@NotNull
+	public static ParticleBatcher get(@NotNull ServerLevel level) {
+		return ((ParticleBatcherLevelInterface) level).trailierTales$getParticleBatcher();
+	}
+
+	/**
+	 * Queues particles with the same arguments as {@link ServerLevel#sendParticles(ParticleOptions, double, double, double, int, double, double, double, double)}.
+	 */
+	public void sendParticles(
+		@NotNull ParticleOptions options,
+		double x, double y, double z,
+		int count,
+		double xDist, double yDist, double zDist,
+		double maxSpeed
+	) {
+		this.queue(options, x, y, z, count, xDist, yDist, zDist, maxSpeed, false);
+	}
+
+	/**
+	 * Queues particles that are only sent to players within {@link #COSMETIC_RANGE}.
+	 */
+	public void sendCosmeticParticles(
+		@NotNull ParticleOptions options,
+		double x, double y, double z,
+		int count,
+		double xDist, double yDist, double zDist,
+		double maxSpeed
+	) {
+		this.queue(options, x, y, z, count, xDist, yDist, zDist, maxSpeed, true);
+	}
+
+	private void queue(
+		@NotNull ParticleOptions options,
+		double x, double y, double z,
+		int count,
+		double xDist, double yDist, double zDist,
+		double maxSpeed,
+		boolean cosmetic
+	) {
+		ParticleBatchPayload.Spot spot = new ParticleBatchPayload.Spot(x, y, z, (float) xDist, (float) yDist, (float) zDist, (float) maxSpeed, count);
+		this.emissions.computeIfAbsent(options, key -> new ObjectArrayList<>()).add(new Emission(spot, cosmetic));
+	}
+
+	private void flush(@NotNull ServerLevel level) {
+		if (this.emissions.isEmpty()) {
+			return;
+		}
+		for (ServerPlayer player : level.players()) {
+			if (ServerPlayNetworking.canSend(player, ParticleBatchPayload.PACKET_TYPE)) {
+				this.sendBatch(player);
+			} else {
+				this.sendVanilla(level, player);
+			}
+		}
+		this.emissions.clear();
+	}
+
+	private void sendBatch(@NotNull ServerPlayer player) {
+		List<ParticleBatchPayload.Group> groups = null;
+		for (Map.Entry<ParticleOptions, List<Emission>> entry : this.emissions.entrySet()) {
+			for (Emission emission : entry.getValue()) {
+				if (emission.isInRange(player)) {
+					this.spots.add(emission.spot);
+				}
+			}
+			if (!this.spots.isEmpty()) {
+				if (groups == null) {
+					groups = new ObjectArrayList<>();
+				}
+				groups.add(new ParticleBatchPayload.Group(entry.getKey(), List.copyOf(this.spots)));
+				this.spots.clear();
+			}
+		}
+		if (groups != null) {
+			ServerPlayNetworking.send(player, new ParticleBatchPayload(groups));
+		}
+	}
+
+	private void sendVanilla(@NotNull ServerLevel level, @NotNull ServerPlayer player) {
+		for (Map.Entry<ParticleOptions, List<Emission>> entry : this.emissions.entrySet()) {
+			for (Emission emission : entry.getValue()) {
+				if (emission.isInRange(player)) {
+					ParticleBatchPayload.Spot spot = emission.spot;
+					level.sendParticles(
+						player,
+						entry.getKey(),
+						false,
+						spot.x(), spot.y(), spot.z(),
+						spot.count(),
+						spot.xDist(), spot.yDist(), spot.zDist(),
+						spot.maxSpeed()
+					);
+				}
+			}
+		}
+	}
+
+	private record Emission(ParticleBatchPayload.Spot spot, boolean cosmetic) {
+		public boolean isInRange(@NotNull ServerPlayer player) {
+			double distance = player.distanceToSqr(this.spot.x(), this.spot.y(), this.spot.z());
+			return distance < (this.cosmetic ? COSMETIC_RANGE_SQR : RANGE_SQR);
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package net.frozenblock.trailiertales.networking;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.RandomSource;
+import org.jetbrains.annotations.NotNull;
+
+@Environment(EnvType.CLIENT)
+public final class TrailierClientNetworking {
+	private TrailierClientNetworking() {
+		throw new UnsupportedOperationException("TrailierClientNetworking contains only static declarations.");
+	}
+
+	public static void init() {
+		ClientPlayNetworking.registerGlobalReceiver(ParticleBatchPayload.PACKET_TYPE, (payload, context) -> {
+			ClientLevel level = context.client().level;
+			if (level != null) {
+				addParticles(level, context.player().getRandom(), payload);
+			}
+		});
+	}
+
+	/**
+	 * Expands each {@link ParticleBatchPayload.Spot} like {@link net.minecraft.client.multiplayer.ClientPacketListener#handleParticleEvent}.
+	 */
+	private static void addParticles(@NotNull ClientLevel level, @NotNull RandomSource random, @NotNull ParticleBatchPayload payload) {
+		for (ParticleBatchPayload.Group group : payload.groups()) {
+			for (ParticleBatchPayload.Spot spot : group.spots()) {
+				if (spot.count() == 0) {
+					level.addParticle(
+						group.options(),
+						false,
+						spot.x(), spot.y(), spot.z(),
+						spot.maxSpeed() * spot.xDist(),
+						spot.maxSpeed() * spot.yDist(),
+						spot.maxSpeed() * spot.zDist()
+					);
+					continue;
+				}
+				for (int i = 0; i < spot.count(); i++) {
+					level.addParticle(
+						group.options(),
+						false,
+						spot.x() + random.nextGaussian() * spot.xDist(),
+						spot.y() + random.nextGaussian() * spot.yDist(),
+						spot.z() + random.nextGaussian() * spot.zDist(),
+						random.nextGaussian() * spot.maxSpeed(),
+						random.nextGaussian() * spot.maxSpeed(),
+						random.nextGaussian() * spot.maxSpeed()
+					);
+				}
+			}
+		}
+	}
+}
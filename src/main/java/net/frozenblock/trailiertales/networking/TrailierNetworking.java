@@ -0,0 +1,14 @@
+package net.frozenblock.trailiertales.networking;
+
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+
+public final class TrailierNetworking {
+	private TrailierNetworking() {
+		throw new UnsupportedOperationException("TrailierNetworking contains only static declarations.");
+	}
+
+	public static void init() {
+		PayloadTypeRegistry.playS2C().register(ParticleBatchPayload.PACKET_TYPE, ParticleBatchPayload.CODEC);
+		ParticleBatcher.init();
+	}
+}
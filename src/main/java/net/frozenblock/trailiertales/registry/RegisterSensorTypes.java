@@ -22,11 +22,30 @@ public final class RegisterSensorTypes {
 		TrailierConstants.log("Registering SensorTypes for Trailier Tales", TrailierConstants.UNSTABLE_LOGGING);
 	}
 
-	public static final SensorType<ApparitionSpecificSensor> APPARITION_SPECIFIC_SENSOR = register("apparition_specific_sensor", ApparitionSpecificSensor::new);
+	public static final int APPARITION_SPECIFIC_SCAN_RATE = 20;
+	public static final int APPARITION_NEAREST_ITEM_SCAN_RATE = 20;
+	public static final int APPARITION_NEAREST_ITEM_IDLE_SCAN_INTERVAL = 3;
+	public static final int APPARITION_PLAYER_SCAN_RATE = 20;
+	public static final int APPARITION_AIDABLES_SCAN_RATE = 20;
+	public static final int APPARITION_AIDABLES_IDLE_SCAN_INTERVAL = 4;
+
+	public static final SensorType<ApparitionSpecificSensor> APPARITION_SPECIFIC_SENSOR = register(
+		"apparition_specific_sensor",
+		() -> new ApparitionSpecificSensor(APPARITION_SPECIFIC_SCAN_RATE)
+	);
 	public static final SensorType<ApparitionAttackablesSensor> APPARITION_ATTACKABLES_SENSOR = register("apparition_attackables_sensor", ApparitionAttackablesSensor::new);
-	public static final SensorType<ApparitionNearestItemSensor> APPARITION_NEAREST_ITEM_SENSOR = register("apparition_nearest_item_sensor", ApparitionNearestItemSensor::new);
-	public static final SensorType<ApparitionPlayerSensor> APPARITION_PLAYER_SENSOR = register("apparition_player_sensor", ApparitionPlayerSensor::new);
-	public static final SensorType<ApparitionAidablesSensor> APPARITION_AIDABLES_SENSOR = register("apparition_aidables_sensor", ApparitionAidablesSensor::new);
+	public static final SensorType<ApparitionNearestItemSensor> APPARITION_NEAREST_ITEM_SENSOR = register(
+		"apparition_nearest_item_sensor",
+		() -> new ApparitionNearestItemSensor(APPARITION_NEAREST_ITEM_SCAN_RATE, APPARITION_NEAREST_ITEM_IDLE_SCAN_INTERVAL)
+	);
+	public static final SensorType<ApparitionPlayerSensor> APPARITION_PLAYER_SENSOR = register(
+		"apparition_player_sensor",
+		() -> new ApparitionPlayerSensor(APPARITION_PLAYER_SCAN_RATE)
+	);
+	public static final SensorType<ApparitionAidablesSensor> APPARITION_AIDABLES_SENSOR = register(
+		"apparition_aidables_sensor",
+		() -> new ApparitionAidablesSensor(APPARITION_AIDABLES_SCAN_RATE, APPARITION_AIDABLES_IDLE_SCAN_INTERVAL)
+	);
 
 	@NotNull
 	private static <U extends Sensor<?>> SensorType<U> register(String key, Supplier<U> sensorSupplier) {
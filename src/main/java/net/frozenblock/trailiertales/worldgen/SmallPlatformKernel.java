@@ -0,0 +1,67 @@
+package net.frozenblock.trailiertales.worldgen;
+
+import net.minecraft.Util;
+import net.minecraft.util.Mth;
+
+/**
+ * Precomputed {@link TrailierTerrainAdjustment#SMALL_PLATFORM} contributions, indexed like vanilla's beard kernel.
+ * <p>
+ * A small platform is a bury adjustment with its horizontal distances scaled down, and the Beardifier only ever asks for it at
+ * whole block horizontal distances and half block vertical distances.
+ * Every contribution on that grid within range is stored, and everything further out is zero.
+ */
+public final class SmallPlatformKernel {
+	public static final double X_CONTRIBUTION_SCALE = 0.7D;
+	public static final double Y_CONTRIBUTION_SCALE = 1D;
+	public static final double Z_CONTRIBUTION_SCALE = 0.7D;
+	private static final double BURY_RADIUS = 6D;
+	private static final int MAX_XZ = Mth.ceil(BURY_RADIUS / X_CONTRIBUTION_SCALE) - 1;
+	private static final int MAX_HALF_Y = Mth.ceil(2D * BURY_RADIUS / Y_CONTRIBUTION_SCALE) - 1;
+	private static final int SIZE_XZ = MAX_XZ + 1;
+	private static final int SIZE_Y = MAX_HALF_Y + 1;
+	private static final double[] KERNEL = Util.make(new double[SIZE_XZ * SIZE_Y * SIZE_XZ], kernel -> {
+		for (int x = 0; x < SIZE_XZ; x++) {
+			for (int halfY = 0; halfY < SIZE_Y; halfY++) {
+				for (int z = 0; z < SIZE_XZ; z++) {
+					kernel[index(x, halfY, z)] = computeContribution(x, halfY / 2D, z);
+				}
+			}
+		}
+	});
+
+	private SmallPlatformKernel() {
+		throw new UnsupportedOperationException("SmallPlatformKernel contains only static declarations.");
+	}
+
+	/**
+	 * @return the contribution at the given unscaled distances from a piece, or {@link Double#NaN} if they are off the kernel's grid.
+	 */
+	public static double getContribution(double x, double y, double z) {
+		int gridX = (int) x;
+		int halfY = (int) (y * 2D);
+		int gridZ = (int) z;
+		if (gridX != x || halfY != y * 2D || gridZ != z) {
+			return Double.NaN;
+		}
+
+		gridX = Math.abs(gridX);
+		halfY = Math.abs(halfY);
+		gridZ = Math.abs(gridZ);
+		if (gridX > MAX_XZ || halfY > MAX_HALF_Y || gridZ > MAX_XZ) {
+			return 0D;
+		}
+		return KERNEL[index(gridX, halfY, gridZ)];
+	}
+
+	/**
+	 * Vanilla's bury contribution with the small platform's scales applied.
+	 */
+	public static double computeContribution(double x, double y, double z) {
+		double distance = Mth.length(x * X_CONTRIBUTION_SCALE, y * Y_CONTRIBUTION_SCALE, z * Z_CONTRIBUTION_SCALE);
+		return Mth.clampedMap(distance, 0D, BURY_RADIUS, 1D, 0D);
+	}
+
+	private static int index(int x, int halfY, int z) {
+		return (x * SIZE_Y + halfY) * SIZE_XZ + z;
+	}
+}
@@ -0,0 +1,124 @@
+package net.frozenblock.trailiertales.worldgen.structure;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.frozenblock.trailiertales.impl.CatacombsLevelInterface;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructurePiece;
+import net.minecraft.world.level.levelgen.structure.StructureStart;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches which blocks of a chunk are covered by Catacombs pieces.
+ * <p>
+ * The pieces touching a chunk are clipped to it the first time the chunk is queried, and dropped again once the chunk unloads.
+ */
+public final class CatacombsBoundsIndex {
+	private static final ChunkBounds EMPTY = new ChunkBounds(new BitSet(), new BoundingBox[0]);
+	private final Long2ObjectOpenHashMap<ChunkBounds> chunks = new Long2ObjectOpenHashMap<>();
+	@Nullable
+	private Structure catacombs;
+	private boolean resolvedCatacombs;
+
+	public static void init() {
+		ServerChunkEvents.CHUNK_UNLOAD.register((level, chunk) -> get(level).chunks.remove(chunk.getPos().toLong()));
+	}
+
+	@NotNull
+	public static CatacombsBoundsIndex get(@NotNull ServerLevel level) {
+		return ((CatacombsLevelInterface) level).trailierTales$getCatacombsBoundsIndex();
+	}
+
+	public boolean isInCatacombs(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+		int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+		long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+		ChunkBounds chunkBounds = this.chunks.get(chunkKey);
+		if (chunkBounds == null) {
+			chunkBounds = this.rasterize(level, new ChunkPos(chunkX, chunkZ));
+			if (level.hasChunk(chunkX, chunkZ)) {
+				this.chunks.put(chunkKey, chunkBounds);
+			}
+		}
+		return chunkBounds.contains(level, pos);
+	}
+
+	@Nullable
+	private Structure getCatacombs(@NotNull ServerLevel level) {
+		if (!this.resolvedCatacombs) {
+			this.catacombs = level.registryAccess().registryOrThrow(Registries.STRUCTURE).get(CatacombsGenerator.CATACOMBS_KEY);
+			this.resolvedCatacombs = true;
+		}
+		return this.catacombs;
+	}
+
+	@NotNull
+	private ChunkBounds rasterize(@NotNull ServerLevel level, @NotNull ChunkPos chunkPos) {
+		Structure structure = this.getCatacombs(level);
+		if (structure == null) {
+			return EMPTY;
+		}
+
+		List<StructureStart> structureStarts = level.structureManager().startsForStructure(chunkPos, checkedStructure -> checkedStructure == structure);
+		if (structureStarts.isEmpty()) {
+			return EMPTY;
+		}
+
+		int minX = chunkPos.getMinBlockX();
+		int minZ = chunkPos.getMinBlockZ();
+		int maxX = chunkPos.getMaxBlockX();
+		int maxZ = chunkPos.getMaxBlockZ();
+		int minSection = level.getMinSection();
+		int sectionCount = level.getSectionsCount();
+		BitSet sections = new BitSet(sectionCount);
+		List<BoundingBox> boxes = new ArrayList<>();
+		for (StructureStart structureStart : structureStarts) {
+			for (StructurePiece piece : structureStart.getPieces()) {
+				BoundingBox box = piece.getBoundingBox();
+				if (box.intersects(minX, minZ, maxX, maxZ)) {
+					boxes.add(
+						new BoundingBox(
+							Math.max(box.minX(), minX),
+							box.minY(),
+							Math.max(box.minZ(), minZ),
+							Math.min(box.maxX(), maxX),
+							box.maxY(),
+							Math.min(box.maxZ(), maxZ)
+						)
+					);
+					int fromSection = Math.max(SectionPos.blockToSectionCoord(box.minY()) - minSection, 0);
+					int toSection = Math.min(SectionPos.blockToSectionCoord(box.maxY()) - minSection, sectionCount - 1);
+					if (fromSection <= toSection) {
+						sections.set(fromSection, toSection + 1);
+					}
+				}
+			}
+		}
+		return boxes.isEmpty() ? EMPTY : new ChunkBounds(sections, boxes.toArray(new BoundingBox[0]));
+	}
+
+	private record ChunkBounds(BitSet sections, BoundingBox[] boxes) {
+		public boolean contains(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+			int section = SectionPos.blockToSectionCoord(pos.getY()) - level.getMinSection();
+			if (section < 0 || !this.sections.get(section)) {
+				return false;
+			}
+			for (BoundingBox box : this.boxes) {
+				if (box.isInside(pos)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}